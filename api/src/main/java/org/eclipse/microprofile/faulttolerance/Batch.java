@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Combine individual calls of the method into calls of a bulk method, which handles many items at once.
+ * <p>
+ * The annotated method must have exactly one parameter, the item, and must return a
+ * {@link java.util.concurrent.CompletionStage CompletionStage}. When it is called, the item is added to the current
+ * batch and an incomplete {@code CompletionStage} is returned immediately, without executing the method. The batch is
+ * dispatched once it holds {@link #maxSize()} distinct items, or once {@link #maxDelay()} has elapsed since its first
+ * item was added, whichever comes first. The method named by {@link #batchMethod()} is then called once with all the
+ * items of the batch, and the stage returned for each item is completed with the result for that item.
+ * <p>
+ * The Fault Tolerance annotations of the batch method, such as {@link Retry}, {@link Timeout} or
+ * {@link CircuitBreaker}, apply to each call of the batch method. A {@link Fallback} on the annotated method applies
+ * to each item whose call fails, either because the batch call failed or because the result of the batch call does not
+ * contain a result for the item. As for any method returning a {@code CompletionStage}, the batch method must be
+ * annotated with {@link Asynchronous} for these annotations to handle the returned stage completing exceptionally.
+ *
+ * @see #maxSize()
+ * @see #maxDelay()
+ * @see #maxDelayUnit()
+ * @see #batchMethod()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@InterceptorBinding
+public @interface Batch {
+
+    /**
+     * The maximum number of distinct items in a batch. The value must be greater than 0. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the maximum number of items in a batch
+     */
+    @Nonbinding
+    int maxSize() default 100;
+
+    /**
+     * The maximum time an item waits for its batch to be dispatched. The value must be greater than or equal to 0.
+     * Otherwise, {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * If the value is 0, each batch is dispatched as soon as possible, so it only holds the items which were added
+     * while the previous batch was being dispatched.
+     *
+     * @return the maximum delay before a batch is dispatched
+     */
+    @Nonbinding
+    long maxDelay() default 10;
+
+    /**
+     * The unit for {@link #maxDelay()}. Defaults to {@link ChronoUnit#MILLIS}.
+     *
+     * @return the delay unit
+     */
+    @Nonbinding
+    ChronoUnit maxDelayUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * The name of the method which handles a batch of items. The value must be set and the method must be on the same
+     * class as the annotated method. If the item type of the annotated method is {@code K} and it returns
+     * {@code CompletionStage<R>}, the batch method must have a single parameter of type {@code List<K>} and must
+     * return {@code CompletionStage<Map<K, R>>}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * The list passed to the batch method contains each distinct item of the batch once. If the returned map has no
+     * entry for an item, the call for that item fails with a
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.BatchItemException BatchItemException}.
+     *
+     * @return the name of the batch method
+     */
+    @Nonbinding
+    String batchMethod() default "";
+}
@@ -26,6 +26,7 @@ import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
@@ -42,9 +43,29 @@ import jakarta.interceptor.InterceptorBinding;
  * <li>Semaphore isolation - execution happens on the calling thread and the concurrent requests are constrained by the
  * semaphore count.</li>
  * </ul>
+ * <p>
+ * By default, a semaphore bulkhead rejects a call as soon as the maximum number of concurrent calls is reached. If
+ * {@link #maxWait()} is greater than 0, the call waits for up to that duration for an execution to finish instead.
+ * <p>
+ * By default, each call takes one permit of the bulkhead, so {@link #value()} is the maximum number of concurrent
+ * calls. Calls with a varying cost can take more than one permit, either a constant number set by {@link #permits()},
+ * or a number computed for each call by {@link #permitsExtractor()}.
+ * <p>
+ * Bulkheads can be nested inside wider limits. A bulkhead may belong to a {@link #group()}, which limits the number of
+ * concurrent calls to all methods in the group, and the application may configure a global limit on the number of
+ * concurrent calls to all methods with a bulkhead. A call is only admitted when all of these limits have capacity.
+ * <p>
+ * By default, each annotated method has its own bulkhead. Methods which use the same resource can share a single
+ * bulkhead by giving it a {@link #name()}.
  *
  * @see #value()
  * @see #waitingTaskQueue()
+ * @see #maxWait()
+ * @see #maxWaitUnit()
+ * @see #permits()
+ * @see #permitsExtractor()
+ * @see #group()
+ * @see #name()
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  *
@@ -57,7 +78,18 @@ import jakarta.interceptor.InterceptorBinding;
 public @interface Bulkhead {
 
     /**
-     * Specify the maximum number of concurrent calls to an instance. The value must be greater than 0. Otherwise,
+     * Create a default class so the permits extractor is not required to be set all the time.
+     */
+    class DEFAULT implements PermitsExtractor {
+        @Override
+        public int permits(ExecutionContext context) {
+            return 1;
+        }
+    }
+
+    /**
+     * Specify the maximum number of concurrent calls to an instance. If calls take more than one permit, this is the
+     * maximum number of permits in use at the same time. The value must be greater than 0. Otherwise,
      * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
      *
      * @return the limit of the concurrent calls
@@ -67,11 +99,103 @@ public @interface Bulkhead {
 
     /**
      * Specify the waiting task queue. This setting only takes effect on asynchronous invocation, achieved by using
-     * {@code Asynchronous}. The value must be greater than 0. Otherwise,
+     * {@code Asynchronous}, or on synchronous invocation when {@link #maxWait()} is greater than 0. The value must be
+     * greater than 0. Otherwise,
      * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
      *
      * @return the waiting queue size
      */
     @Nonbinding
     int waitingTaskQueue() default 10;
+
+    /**
+     * Specify the maximum time a synchronous call waits for the bulkhead to have capacity. This setting only takes
+     * effect on synchronous invocation. 0 means the call is rejected immediately if the bulkhead is full. The value
+     * must be greater than or equal to 0. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * Waiting calls are admitted in the order in which they started waiting. At most {@link #waitingTaskQueue()} calls
+     * may wait at the same time.
+     *
+     * @return the maximum waiting time
+     */
+    @Nonbinding
+    long maxWait() default 0;
+
+    /**
+     * The unit for {@link #maxWait()}. Defaults to {@link java.time.temporal.ChronoUnit#MILLIS} if not set.
+     *
+     * @return the maximum waiting time unit
+     */
+    @Nonbinding
+    ChronoUnit maxWaitUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * Specify the number of permits each call takes. The value must be greater than 0 and lower than or equal to
+     * {@link #value()}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * A call is only admitted when enough permits are available for it. Waiting calls are admitted in the order in
+     * which they started waiting, so a call which takes many permits is not overtaken by calls which take fewer
+     * permits.
+     * <p>
+     * This setting is ignored if {@link #permitsExtractor()} is set.
+     *
+     * @return the number of permits each call takes
+     */
+    @Nonbinding
+    int permits() default 1;
+
+    /**
+     * Specify the class used to compute the number of permits each call takes. A new instance of the class is created
+     * using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If set, the number of permits is computed by the extractor for each call, before the call enters the bulkhead,
+     * and {@link #permits()} is ignored.
+     *
+     * @return the permits extractor class
+     */
+    @Nonbinding
+    Class<? extends PermitsExtractor> permitsExtractor() default DEFAULT.class;
+
+    /**
+     * Specify the name of the bulkhead group this bulkhead belongs to. The empty string, which is the default, means
+     * the bulkhead does not belong to any group.
+     * <p>
+     * A bulkhead group limits the number of concurrent calls to all methods in the group, in addition to the limit of
+     * each method. The limit of a group is set by the config property
+     * {@code mp.fault.tolerance.bulkhead.group.<name>.value}. If the named group has no configured limit,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * A call is only admitted when both this bulkhead and the group, as well as the global limit if configured, have
+     * enough permits available. The permits are taken from all of them at once. If the call is rejected by any of them,
+     * a {@link org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException} is thrown for this bulkhead.
+     * <p>
+     * If {@link #name()} is set, the group is a parameter of the named bulkhead, so all the methods which use the
+     * named bulkhead belong to the same group. Group names and bulkhead names are unrelated.
+     *
+     * @return the name of the bulkhead group
+     */
+    @Nonbinding
+    String group() default "";
+
+    /**
+     * Specify the name of a bulkhead shared by all methods which use the same name, across all beans in the
+     * application. The empty string, which is the default, means the method has its own bulkhead.
+     * <p>
+     * All methods using a named bulkhead share its running executions and its waiting queue. The parameters
+     * {@link #value()}, {@link #waitingTaskQueue()}, {@link #maxWait()}, {@link #maxWaitUnit()} and {@link #group()}
+     * apply to the shared bulkhead and can be configured with the config property
+     * {@code Bulkhead/<name>/<parameter>}. If they are not configured, all methods using the name must declare the same
+     * values for them. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs. The
+     * parameters {@link #permits()} and {@link #permitsExtractor()} still apply to each method individually.
+     * <p>
+     * Either all methods using a named bulkhead must be annotated with {@link Asynchronous}, or none of them.
+     * Otherwise, {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the name of the shared bulkhead
+     */
+    @Nonbinding
+    String name() default "";
 }
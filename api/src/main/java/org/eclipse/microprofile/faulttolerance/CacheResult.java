@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Cache the results of the method, so that invocations with the same key return the cached result without executing
+ * the method.
+ * <p>
+ * The cache is checked before any other Fault Tolerance processing. If a cached result is found for the key of the
+ * invocation, it is returned immediately: the method is not executed and the {@link Bulkhead}, {@link CircuitBreaker},
+ * {@link Retry}, {@link Timeout} and {@link Fallback} policies of the method are not applied. Otherwise, the
+ * invocation proceeds as usual and, if the method returns successfully, its result is cached. Results returned by a
+ * fallback are not cached.
+ * <p>
+ * Each annotated method has its own cache. The cache holds at most {@link #maxSize()} results, each for at most
+ * {@link #ttl()}. An expired result may still be returned if the invocation fails, as described in
+ * {@link #staleIfError()}.
+ * <p>
+ * This annotation is intended for idempotent methods whose results remain valid for some time, such as reads from a
+ * remote service.
+ *
+ * @see #ttl()
+ * @see #ttlUnit()
+ * @see #maxSize()
+ * @see #keyExtractor()
+ * @see #staleIfError()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Inherited
+@InterceptorBinding
+public @interface CacheResult {
+
+    /**
+     * Create a default class so the key extractor is not required to be set all the time. The key is the list of
+     * parameter values of the invocation.
+     */
+    class DEFAULT implements KeyExtractor {
+        @Override
+        public Object key(ExecutionContext context) {
+            return Arrays.asList(context.getParameters());
+        }
+    }
+
+    /**
+     * The time for which a result is cached, after which it expires. The value must be greater than 0. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the time to live of a cached result
+     */
+    @Nonbinding
+    long ttl() default 1000;
+
+    /**
+     * The unit for {@link #ttl()} and {@link #staleIfError()}. Defaults to {@link ChronoUnit#MILLIS}.
+     *
+     * @return the time unit
+     */
+    @Nonbinding
+    ChronoUnit ttlUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * The maximum number of results held in the cache. The value must be greater than 0. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * When the cache is full, the implementation evicts results to make room for new ones. The eviction policy is
+     * implementation specific. Expired results count towards the maximum size until they are evicted.
+     *
+     * @return the maximum number of cached results
+     */
+    @Nonbinding
+    int maxSize() default 1000;
+
+    /**
+     * Specify the class used to compute the cache key of each invocation. A new instance of the class is created
+     * using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * By default, the key is the list of parameter values of the invocation.
+     *
+     * @return the key extractor class
+     */
+    @Nonbinding
+    Class<? extends KeyExtractor> keyExtractor() default DEFAULT.class;
+
+    /**
+     * The time after a result expires during which it may still be returned if the invocation fails, in the
+     * {@link #ttlUnit()}. The value must be greater than or equal to 0. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs. Defaults to
+     * 0, which means expired results are never returned.
+     * <p>
+     * If the value is greater than 0 and the invocation fails, for example because the circuit breaker is open, the
+     * expired result for the key is returned instead of the failure and the fallback is not invoked. This only applies
+     * if the result expired no longer ago than this value and has not been evicted.
+     *
+     * @return the time during which an expired result may be returned if the invocation fails
+     */
+    @Nonbinding
+    long staleIfError() default 0;
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * Tells the code of a method with Fault Tolerance annotations whether its execution has been cancelled, for example
+ * because it has timed out, so that it can stop its work cleanly instead of relying on {@link Thread#interrupt()}.
+ * <p>
+ * The container provides a bean with bean type {@code CancellationToken} and qualifier {@code @Default}, which may be
+ * injected into any bean. The injected token represents the current attempt of the invocation of a method with Fault
+ * Tolerance annotations which is running on the current thread. Calling any method of the injected token on a thread
+ * which is not running such an invocation results in {@link IllegalStateException}.
+ * <p>
+ * The current attempt is cancelled when it times out, when the whole invocation times out or its inherited deadline
+ * passes, and when the {@link java.util.concurrent.Future Future} returned by an {@link Asynchronous} method is
+ * cancelled.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * &#064;Inject
+ * CancellationToken cancellation;
+ *
+ * &#064;Timeout(value = 500, interrupt = false)
+ * public Data read(Connection connection) {
+ *     try (CancellationToken.Registration r = cancellation.onCancel(connection::abort)) {
+ *         return connection.read();
+ *     }
+ * }
+ * </pre>
+ *
+ */
+@org.osgi.annotation.versioning.ProviderType
+public interface CancellationToken {
+
+    /**
+     * Returns whether the current attempt has been cancelled.
+     *
+     * @return {@code true} if the current attempt has been cancelled, otherwise {@code false}
+     */
+    boolean isCancelled();
+
+    /**
+     * Register a callback to run when the current attempt is cancelled, for example to close a socket on which the
+     * method is blocked. If the attempt has already been cancelled, the callback runs immediately on the calling
+     * thread.
+     * <p>
+     * The callback may run on another thread, for example the thread of the timer, and must be short and must not
+     * block. Exceptions thrown by the callback are ignored. The callback runs at most once, and does not run once the
+     * current attempt has completed.
+     *
+     * @param callback
+     *            the callback to run
+     * @return a registration which can be closed to remove the callback, for example once the resource it closes is
+     *         no longer used
+     */
+    Registration onCancel(Runnable callback);
+
+    /**
+     * The registration of a callback with {@link CancellationToken#onCancel(Runnable)}.
+     */
+    interface Registration extends AutoCloseable {
+        /**
+         * Remove the callback, if it has not run yet.
+         */
+        @Override
+        void close();
+    }
+
+}
@@ -56,7 +56,12 @@ import jakarta.interceptor.InterceptorBinding;
  * When a method returns a result, the following rules are applied to determine whether the result is a success or a
  * failure:
  * <ul>
- * <li>If the method does not throw a {@link Throwable}, it is considered a success
+ * <li>If the method does not throw a {@link Throwable} and the result matches the {@link #failOnResult()} predicate, it
+ * is considered a failure
+ * <li>Otherwise, if the method does not throw a {@link Throwable}, it is considered a success
+ * <li>Otherwise, if the {@link #classifier()} parameter is set and the classifier returns a positive value for the
+ * thrown object, it is considered a failure, counted as many times as the value returned
+ * <li>Otherwise, if the {@link #classifier()} parameter is set, it is considered a success
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #skipOn()} parameter, it is considered a
  * success
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #failOn()} parameter, it is considered a
@@ -68,6 +73,8 @@ import jakarta.interceptor.InterceptorBinding;
  *
  * @see #failOn()
  * @see #skipOn()
+ * @see #failOnResult()
+ * @see #classifier()
  * @see #delay()
  * @see #delayUnit()
  * @see #requestVolumeThreshold()
@@ -83,6 +90,23 @@ import jakarta.interceptor.InterceptorBinding;
 @Target({ElementType.METHOD, ElementType.TYPE})
 public @interface CircuitBreaker {
 
+    /**
+     * Create a default class so the result predicate and the exception classifier are not required to be set all the
+     * time. As a result predicate, it matches no result. As an exception classifier, it is never invoked; the lists of
+     * exception types are used instead.
+     */
+    class DEFAULT implements ResultPredicate<Object>, ExceptionClassifier {
+        @Override
+        public boolean test(Object result) {
+            return false;
+        }
+
+        @Override
+        public int classify(Throwable failure) {
+            return 0;
+        }
+    }
+
     /**
      * The list of exception types which should be considered failures.
      * <p>
@@ -163,4 +187,39 @@ public @interface CircuitBreaker {
     @Nonbinding
     int successThreshold() default 1;
 
+    /**
+     * The class of the predicate which decides whether a result returned by the method is considered a failure. A new
+     * instance of the class is created using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If the method returns normally and the predicate matches the result, the execution is recorded as a failure and
+     * the result is returned to the caller.
+     * <p>
+     * If the method is annotated with {@link Asynchronous} and returns a {@link java.util.concurrent.CompletionStage
+     * CompletionStage}, the predicate is applied to the value the {@code CompletionStage} completes with. If the
+     * method is annotated with {@link Asynchronous} and returns a {@link java.util.concurrent.Future Future}, this
+     * parameter must not be set. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the result predicate class
+     */
+    @Nonbinding
+    Class<? extends ResultPredicate<?>> failOnResult() default DEFAULT.class;
+
+    /**
+     * The class of the classifier which decides whether an exception thrown by the method is considered a failure,
+     * and with which weight. A new instance of the class is created using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If this parameter is set, an execution which throws is considered a failure if the classifier returns a positive
+     * value for the thrown object, and a success otherwise. The {@link #failOn()} and {@link #skipOn()} parameters are
+     * not used.
+     * <p>
+     * A failure with weight {@code w} is recorded as {@code w} failures when evaluating the {@link #failureRatio()}
+     * over the rolling window. It still occupies a single place in the window of {@link #requestVolumeThreshold()}
+     * executions.
+     *
+     * @return the exception classifier class
+     */
+    @Nonbinding
+    Class<? extends ExceptionClassifier> classifier() default DEFAULT.class;
+
 }
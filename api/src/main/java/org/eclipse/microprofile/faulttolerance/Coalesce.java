@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Coalesce concurrent invocations of the method with the same key, so that they share a single execution.
+ * <p>
+ * If an invocation is made while another invocation of the same method with the same key is in progress, it does not
+ * start a new execution. Instead, it waits for the invocation in progress and returns the same result, or throws the
+ * same exception. Only the invocation in progress is subject to the {@link Bulkhead}, {@link CircuitBreaker},
+ * {@link Retry}, {@link Timeout} and {@link Fallback} policies of the method, so the coalesced invocations together
+ * take a single bulkhead slot and count as a single call for the circuit breaker.
+ * <p>
+ * All coalesced invocations receive the same result object, so the result should be immutable.
+ *
+ * @see #keyExtractor()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Inherited
+@InterceptorBinding
+public @interface Coalesce {
+
+    /**
+     * Create a default class so the key extractor is not required to be set all the time. The key is the list of
+     * parameter values of the invocation.
+     */
+    class DEFAULT implements KeyExtractor {
+        @Override
+        public Object key(ExecutionContext context) {
+            return Arrays.asList(context.getParameters());
+        }
+    }
+
+    /**
+     * Specify the class used to compute the key of each invocation. A new instance of the class is created using the
+     * CDI SPI. The instance is unmanaged.
+     * <p>
+     * By default, the key is the list of parameter values of the invocation.
+     *
+     * @return the key extractor class
+     */
+    @Nonbinding
+    Class<? extends KeyExtractor> keyExtractor() default DEFAULT.class;
+}
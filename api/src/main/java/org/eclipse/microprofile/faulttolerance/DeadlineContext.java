@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The deadline inherited by the code running on the current thread from the methods with Fault Tolerance annotations
+ * which are calling it.
+ * <p>
+ * When deadline propagation is enabled, a method annotated with {@link Timeout} establishes a deadline for everything
+ * it calls, directly or through methods annotated with {@link Asynchronous}. The deadline is the earlier of the point
+ * at which the method times out and any deadline the method itself inherited. Nested methods with Fault Tolerance
+ * annotations use the remaining time as an upper bound for their own timeout and retries, and fail immediately with
+ * {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException TimeoutException} if it has already
+ * expired.
+ * <p>
+ * The container provides a bean with bean type {@code DeadlineContext} and qualifier {@code @Default}, which may be
+ * injected into any bean so that the application can adapt its work to the remaining time.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * &#064;Inject
+ * DeadlineContext deadline;
+ *
+ * public Report buildReport() {
+ *     if (deadline.getRemaining().map(d -&gt; d.toMillis() &lt; 100).orElse(false)) {
+ *         return Report.summaryOnly();
+ *     }
+ *     return Report.full();
+ * }
+ * </pre>
+ *
+ */
+@org.osgi.annotation.versioning.ProviderType
+public interface DeadlineContext {
+
+    /**
+     * Returns the time remaining before the inherited deadline.
+     *
+     * @return the remaining time, never negative, or an empty {@code Optional} if there is no deadline, for example
+     *         because deadline propagation is disabled or no calling method is annotated with {@link Timeout}
+     */
+    Optional<Duration> getRemaining();
+
+    /**
+     * Returns whether the inherited deadline has passed.
+     *
+     * @return {@code true} if there is a deadline and it has passed, otherwise {@code false}
+     */
+    boolean isExpired();
+
+}
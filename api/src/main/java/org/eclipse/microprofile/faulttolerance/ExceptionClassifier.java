@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * Classifies an exception thrown by a method, for cases where matching on the exception type alone is not enough, for
+ * example when the decision depends on an error code carried by the exception. It is used by
+ * {@link Retry#classifier()}, {@link CircuitBreaker#classifier()} and {@link Fallback#classifier()} in place of the
+ * lists of exception types.
+ * <p>
+ * The result of {@link #classify(Throwable)} is a weight:
+ * <ul>
+ * <li>{@code 0} means the exception does not match, i.e. it is not retried, it is considered a success by the circuit
+ * breaker and it does not trigger fallback</li>
+ * <li>A positive value means the exception matches, i.e. it is retried, it is considered a failure by the circuit
+ * breaker and it triggers fallback. The circuit breaker counts the failure as many times as the value returned, for
+ * example a timeout can be counted as {@code 2} in the rolling window. Other policies only distinguish between
+ * {@code 0} and a positive value.</li>
+ * </ul>
+ * If a negative value is returned, non-portable behavior results.
+ * <p>
+ * The classifier instance used by the container is a non-contextual instance created using the CDI SPI. The instance
+ * is called for every exception thrown by the method and so the implementation must be thread safe and should be
+ * cheap. Any part of the decision which depends only on the exception type should be computed once per type, for
+ * example using {@link ClassValue}.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * public class MyService {
+ *
+ *     &#064;Retry(maxRetries = 3, classifier = TransientSqlErrors.class)
+ *     void store(Order order) throws SQLException {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * The classifier implementation is shown below. Only SQL exceptions whose SQLState denotes a connection exception
+ * match.
+ *
+ * <pre>
+ * public class TransientSqlErrors implements ExceptionClassifier {
+ *
+ *     private static final ClassValue&lt;Boolean&gt; IS_SQL = new ClassValue&lt;&gt;() {
+ *         protected Boolean computeValue(Class&lt;?&gt; type) {
+ *             return SQLException.class.isAssignableFrom(type);
+ *         }
+ *     };
+ *
+ *     public int classify(Throwable failure) {
+ *         if (!IS_SQL.get(failure.getClass())) {
+ *             return 0;
+ *         }
+ *         String state = ((SQLException) failure).getSQLState();
+ *         return state != null &amp;&amp; state.startsWith("08") ? 1 : 0;
+ *     }
+ * }
+ * </pre>
+ *
+ */
+public interface ExceptionClassifier {
+    /**
+     * Classify an exception thrown by the method.
+     *
+     * @param failure
+     *            the exception thrown by the method, never {@code null}
+     *
+     * @return {@code 0} if the exception does not match, otherwise the weight of the failure, which is positive
+     */
+    int classify(Throwable failure);
+
+}
@@ -19,9 +19,16 @@
 package org.eclipse.microprofile.faulttolerance;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
 
 /**
  * The execution context for the method being executed.
+ * <p>
+ * The execution context is passed to a {@link FallbackHandler} and to a {@link PermitsExtractor}. It can also be
+ * injected into any bean, in which case it represents the invocation of a method with Fault Tolerance annotations which
+ * is running on the current thread. Calling any method of the injected execution context on a thread which is not
+ * running such an invocation results in {@link IllegalStateException}.
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  */
@@ -44,9 +51,69 @@ public interface ExecutionContext {
 
     /**
      * Returns the failure of the method execution.
+     * <p>
+     * While the method is running, for example when the execution context is injected into the method's bean, returns
+     * the failure of the previous attempt, or {@code null} if this is the first attempt.
      *
      * @return the failure of the method execution
      */
     public Throwable getFailure();
 
+    /**
+     * Returns the number of the current attempt. The first attempt is number 1 and each retry increases it by 1. If
+     * the method is not annotated with {@link Retry}, the number is always 1.
+     *
+     * @return the number of the current attempt
+     */
+    public int getAttemptNumber();
+
+    /**
+     * Returns the time elapsed since the invocation of the method started, including all previous attempts and the
+     * delays between them.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsedTime();
+
+    /**
+     * Returns the time remaining before the current attempt times out. If the {@link Timeout#scope()} is
+     * {@link Timeout.Scope#TOTAL TOTAL}, returns the time remaining before the whole invocation times out.
+     *
+     * @return the remaining time, never negative, or an empty {@code Optional} if the method is not annotated with
+     *         {@link Timeout}
+     */
+    public Optional<Duration> getRemainingTimeout();
+
+    /**
+     * Returns the time remaining before the {@link Retry#maxDuration()} of the invocation is reached, after which no
+     * more retries will be performed.
+     *
+     * @return the remaining time, never negative, or an empty {@code Optional} if the method is not annotated with
+     *         {@link Retry} or if the max duration is not set
+     */
+    public Optional<Duration> getRemainingRetryDuration();
+
+    /**
+     * Returns the result of the last successful execution of the method with the same parameter values, if the method
+     * is annotated with {@link Timeout#soft() &#64;Timeout(soft = true)}.
+     * <p>
+     * The result is stored when an execution completes successfully, including an execution which continued in the
+     * background after a soft timeout. Parameter values are compared using {@link java.util.Arrays#equals(Object[],
+     * Object[])}. If the method is annotated with {@link Asynchronous}, the result is the value of the returned
+     * {@code Future} or {@code CompletionStage}. The implementation may discard stored results, for example to limit
+     * memory usage.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param type
+     *            the type of the result, which is the return type of the method, or the type of the value of the
+     *            returned {@code Future} or {@code CompletionStage} if the method is annotated with
+     *            {@link Asynchronous}
+     * @return the result of the last successful execution, or an empty {@code Optional} if there is none, if it was
+     *         {@code null} or if the method does not have a soft timeout
+     * @throws ClassCastException
+     *             if the stored result is not an instance of {@code type}
+     */
+    public <T> Optional<T> getStaleResult(Class<T> type);
+
 }
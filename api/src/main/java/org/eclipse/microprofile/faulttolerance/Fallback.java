@@ -37,11 +37,16 @@ import jakarta.interceptor.InterceptorBinding;
  * <li>If fallbackMethod is specified, invoke the method specified by the fallbackMethod on the same class.</li>
  * <li>If both are specified, the
  * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} must be thrown.</li>
+ * <li>If {@link #alternatives()} are specified, they are used in order when the fallback, detailed above, fails. If
+ * neither value nor fallbackMethod is specified, the first alternative is used as the fallback.</li>
  * </ol>
  * <p>
  * When a method returns and the fallback policy is present, the following rules are applied:
  * <ol>
  * <li>If the method returns normally (doesn't throw), the result is simply returned.
+ * <li>Otherwise, if the {@link #classifier()} parameter is set and the classifier returns a positive value for the
+ * thrown object, the fallback policy, detailed above, will be applied.
+ * <li>Otherwise, if the {@link #classifier()} parameter is set, the thrown object will be rethrown.
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #skipOn()} parameter, the thrown object
  * will be rethrown.
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #applyOn()} parameter, the fallback
@@ -55,6 +60,8 @@ import jakarta.interceptor.InterceptorBinding;
  * @see #fallbackMethod()
  * @see #applyOn()
  * @see #skipOn()
+ * @see #classifier()
+ * @see #alternatives()
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  *
@@ -67,13 +74,18 @@ import jakarta.interceptor.InterceptorBinding;
 public @interface Fallback {
 
     /**
-     * Create a default class so the value is not required to be set all the time.
+     * Create a default class so the value and the classifier are not required to be set all the time.
      */
-    class DEFAULT implements FallbackHandler<Void> {
+    class DEFAULT implements FallbackHandler<Void>, ExceptionClassifier {
         @Override
         public Void handle(ExecutionContext context) {
             return null;
         }
+
+        @Override
+        public int classify(Throwable failure) {
+            return 0;
+        }
     }
     /**
      * Specify the fallback class to be used. A new instance of the fallback class is returned. The instance is
@@ -121,4 +133,81 @@ public @interface Fallback {
     @Nonbinding
     Class<? extends Throwable>[] skipOn() default {};
 
+    /**
+     * The class of the classifier which decides whether an exception thrown by the method should trigger Fallback. A
+     * new instance of the class is created using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If this parameter is set, the fallback is applied if the classifier returns a positive value for the thrown
+     * object, and the thrown object is rethrown otherwise. The {@link #applyOn()} and {@link #skipOn()} parameters are
+     * not used.
+     *
+     * @return the exception classifier class
+     */
+    @Nonbinding
+    Class<? extends ExceptionClassifier> classifier() default DEFAULT.class;
+
+    /**
+     * The ordered list of alternatives which are used when the fallback fails.
+     * <p>
+     * When the method fails and the rules above decide that the fallback is applied, the fallback specified by
+     * {@link #value()} or {@link #fallbackMethod()} is invoked. If it throws an exception, or if neither of them is
+     * specified, the first alternative whose {@link Alternative#applyOn()} and {@link Alternative#skipOn()} parameters
+     * accept the last thrown object is invoked, and so on, until an alternative returns normally. Alternatives which
+     * do not accept the last thrown object are skipped. If no remaining alternative accepts it, it is rethrown.
+     * <p>
+     * All the alternatives are invoked by the same Fallback policy, without applying any other Fault Tolerance policy
+     * again.
+     *
+     * @return the alternatives to use when the fallback fails
+     */
+    @Nonbinding
+    Alternative[] alternatives() default {};
+
+    /**
+     * An alternative fallback, used in {@link Fallback#alternatives()}.
+     * <p>
+     * Exactly one of {@link #value()} and {@link #fallbackMethod()} must be specified. They have the same requirements
+     * as the parameters of the same name on {@link Fallback}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({})
+    @interface Alternative {
+
+        /**
+         * Specify the fallback class to be used by this alternative. The
+         * {@link ExecutionContext#getFailure()} method of the fallback handler returns the exception which caused this
+         * alternative to be invoked.
+         *
+         * @return the fallback class
+         */
+        Class<? extends FallbackHandler<?>> value() default DEFAULT.class;
+
+        /**
+         * Specify the method name to fallback to in this alternative.
+         *
+         * @return the local method to fallback to
+         */
+        String fallbackMethod() default "";
+
+        /**
+         * The list of exception types, thrown by the method or by the previous fallback, which should trigger this
+         * alternative
+         *
+         * @return the exception types which should trigger this alternative
+         */
+        Class<? extends Throwable>[] applyOn() default {Throwable.class};
+
+        /**
+         * The list of exception types, thrown by the method or by the previous fallback, which should <i>not</i>
+         * trigger this alternative
+         * <p>
+         * This list takes priority over the types listed in {@link #applyOn}
+         *
+         * @return the exception types which should not trigger this alternative
+         */
+        Class<? extends Throwable>[] skipOn() default {};
+    }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.time.Duration;
+
+/**
+ * A timer used by the implementation to schedule timeouts, delays between retries and the transition of an open
+ * circuit breaker to half-open state.
+ * <p>
+ * If the application provides a bean with bean type {@code FaultToleranceTimer} and qualifier {@code @Default}, the
+ * implementation must use it for all timeouts and delays between retries, and for circuit breaker delays if the
+ * implementation uses a timer for them. Otherwise, the implementation uses its own timer.
+ * <p>
+ * Most scheduled tasks are cancelled before they run, for example when a method with a timeout returns in time. The
+ * implementation is therefore expected to make scheduling and cancelling cheap and independent of the number of
+ * scheduled tasks, for example using a hashed timing wheel. A task may run later than requested by up to the
+ * resolution of the timer, but never earlier.
+ * <p>
+ * The implementation must be thread safe.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * &#064;ApplicationScoped
+ * public class WheelTimer implements FaultToleranceTimer {
+ *
+ *     private final HashedWheelTimer wheel = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+ *
+ *     public Task schedule(Duration delay, Runnable task) {
+ *         Timeout timeout = wheel.newTimeout(t -&gt; task.run(), delay.toNanos(), TimeUnit.NANOSECONDS);
+ *         return timeout::cancel;
+ *     }
+ * }
+ * </pre>
+ *
+ */
+public interface FaultToleranceTimer {
+
+    /**
+     * Schedule a task to run once the delay has elapsed.
+     * <p>
+     * The task is short and does not block, typically handing off to another thread or completing a
+     * {@link java.util.concurrent.CompletableFuture CompletableFuture}. The timer may run it on its own thread.
+     *
+     * @param delay
+     *            the delay after which the task runs, never negative
+     * @param task
+     *            the task to run
+     * @return the scheduled task, which can be used to cancel it
+     */
+    Task schedule(Duration delay, Runnable task);
+
+    /**
+     * A task scheduled on a {@link FaultToleranceTimer}.
+     */
+    @FunctionalInterface
+    interface Task {
+        /**
+         * Cancel the task, if it has not run yet.
+         *
+         * @return {@code true} if the task was cancelled, {@code false} if it has already run or was already cancelled
+         */
+        boolean cancel();
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * Computes the key of an invocation of a method annotated with {@link CacheResult}, under which its result is cached,
+ * or of a method annotated with {@link Coalesce}, by which concurrent invocations are coalesced. The key is typically
+ * derived from the parameters of the invocation, available from {@link ExecutionContext#getParameters()}, so that
+ * parameters which do not affect the result, such as a request identifier, can be left out of the key.
+ * <p>
+ * The returned key must implement {@link Object#equals(Object)} and {@link Object#hashCode()} consistently, and must
+ * not be modified after it is returned. A {@code null} key means the result of the invocation is not cached and no
+ * cached result is looked up, or that the invocation is not coalesced with any other.
+ * <p>
+ * The extractor instance used by the container is a non-contextual instance created using the CDI SPI. The instance
+ * may be used to service more than one invocation and so the implementation must be thread safe.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * public class ProductClient {
+ *
+ *     &#064;CacheResult(ttl = 30, ttlUnit = ChronoUnit.SECONDS, keyExtractor = ProductIdKey.class)
+ *     &#064;Retry
+ *     Product find(String productId, String requestId) {
+ *         return backend.find(productId, requestId);
+ *     }
+ * }
+ * </pre>
+ *
+ * The extractor implementation is shown below. The request identifier is ignored, so that invocations for the same
+ * product share the cached result.
+ *
+ * <pre>
+ * public class ProductIdKey implements KeyExtractor {
+ *     public Object key(ExecutionContext context) {
+ *         return context.getParameters()[0];
+ *     }
+ * }
+ * </pre>
+ *
+ * @see CacheResult#keyExtractor()
+ * @see Coalesce#keyExtractor()
+ */
+public interface KeyExtractor {
+    /**
+     * Compute the key of the invocation.
+     *
+     * @param context
+     *            the execution context of the invocation
+     *
+     * @return the key, or {@code null} if the result of the invocation must not be cached or coalesced
+     */
+    Object key(ExecutionContext context);
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * Computes the number of bulkhead permits an invocation of a method annotated with {@link Bulkhead} takes. The number
+ * of permits is typically derived from the parameters of the invocation, available from
+ * {@link ExecutionContext#getParameters()}, so that expensive invocations take a larger share of the bulkhead than
+ * cheap ones.
+ * <p>
+ * The extractor instance used by the container is a non-contextual instance created using the CDI SPI. The instance
+ * may be used to service more than one invocation and so the implementation must be thread safe.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * public class ReportService {
+ *
+ *     &#064;Bulkhead(value = 100, permitsExtractor = RowCountPermits.class)
+ *     Report export(int rowCount) {
+ *         return backend.export(rowCount);
+ *     }
+ * }
+ * </pre>
+ *
+ * The extractor implementation is shown below. An export of 50,000 rows takes 50 permits, while an export of 10 rows
+ * takes only 1 permit.
+ *
+ * <pre>
+ * public class RowCountPermits implements PermitsExtractor {
+ *     public int permits(ExecutionContext context) {
+ *         int rowCount = (Integer) context.getParameters()[0];
+ *         return rowCount / 1000;
+ *     }
+ * }
+ * </pre>
+ *
+ * @see Bulkhead#permits()
+ * @see Bulkhead#permitsExtractor()
+ */
+public interface PermitsExtractor {
+    /**
+     * Compute the number of permits the invocation takes.
+     * <p>
+     * A result lower than 1 is treated as 1. A result greater than {@link Bulkhead#value()} is treated as
+     * {@link Bulkhead#value()}.
+     *
+     * @param context
+     *            the execution context of the invocation
+     *
+     * @return the number of permits the invocation takes
+     */
+    int permits(ExecutionContext context);
+
+}
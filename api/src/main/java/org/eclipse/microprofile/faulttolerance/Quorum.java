@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Call several target methods in parallel and complete once the required number of them have succeeded.
+ * <p>
+ * The annotated method must return a {@link java.util.concurrent.CompletionStage CompletionStage} of a
+ * {@link java.util.List List}. When it is called, each method named by {@link #targetMethods()} is called with the same
+ * parameters and an incomplete {@code CompletionStage} is returned immediately, without executing the annotated
+ * method. Once {@link #required()} target methods have succeeded, the stage is completed with a list of their results,
+ * in the order in which they completed, and the stages returned by the remaining target methods are cancelled. Once
+ * so many target methods have failed that the required number can no longer succeed, the stage is completed
+ * exceptionally with
+ * {@link org.eclipse.microprofile.faulttolerance.exceptions.QuorumNotReachedException QuorumNotReachedException} and
+ * the stages returned by the remaining target methods are cancelled.
+ * <p>
+ * The Fault Tolerance annotations of each target method, such as {@link Bulkhead}, {@link CircuitBreaker} or
+ * {@link Timeout}, apply to each call of that target method. A {@link Retry} or {@link Fallback} on the annotated
+ * method applies to the quorum call as a whole.
+ *
+ * @see #required()
+ * @see #targetMethods()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@InterceptorBinding
+public @interface Quorum {
+
+    /**
+     * The number of target methods which must succeed. The value must be greater than 0 and must not be greater than
+     * the number of target methods. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the number of target methods which must succeed
+     */
+    @Nonbinding
+    int required() default 1;
+
+    /**
+     * The names of the target methods, which must be distinct and must not be empty. Each target method must be on the
+     * same class as the annotated method and must have the same parameter types. If the annotated method returns
+     * {@code CompletionStage<List<R>>}, each target method must return {@code CompletionStage<R>}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * The target methods are called in the order given. For them to run in parallel, they should be annotated with
+     * {@link Asynchronous}.
+     *
+     * @return the names of the target methods
+     */
+    @Nonbinding
+    String[] targetMethods() default {};
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * Decides whether a result returned by a method is a failure, for methods which report errors by returning a value
+ * rather than by throwing an exception. It is used by {@link Retry#retryOnResult()} and
+ * {@link CircuitBreaker#failOnResult()}.
+ * <p>
+ * The predicate instance used by the container is a non-contextual instance created using the CDI SPI. The instance may
+ * be used to test more than one result and so the implementation must be thread safe. The type parameter of the
+ * predicate must be assignable from the return type of the method, or from the type of the value the returned
+ * {@link java.util.concurrent.CompletionStage CompletionStage} completes with if the method is annotated with
+ * {@link Asynchronous}. A primitive return type is boxed first, so a {@code ResultPredicate<Integer>} can be used for a
+ * method which returns {@code int}. Otherwise,
+ * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * public class MyService {
+ *
+ *     &#064;Retry(maxRetries = 3, retryOnResult = ServiceUnavailable.class)
+ *     Response callPartner() {
+ *         return partnerClient.call();
+ *     }
+ * }
+ * </pre>
+ *
+ * The predicate implementation is shown below. The type parameter must be assignable from {@code Response}.
+ *
+ * <pre>
+ * public class ServiceUnavailable implements ResultPredicate&lt;Response&gt; {
+ *     public boolean test(Response result) {
+ *         return result.getStatus() == 503;
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *            the type of the result
+ */
+public interface ResultPredicate<T> {
+    /**
+     * Test whether the result is a failure.
+     *
+     * @param result
+     *            the result returned by the method, may be {@code null}
+     *
+     * @return {@code true} if the result is a failure, otherwise {@code false}
+     */
+    boolean test(T result);
+
+}
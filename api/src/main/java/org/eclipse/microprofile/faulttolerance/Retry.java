@@ -35,7 +35,12 @@ import jakarta.interceptor.InterceptorBinding;
  * <p>
  * When a method returns and the retry policy is present, the following rules are applied:
  * <ol>
- * <li>If the method returns normally (doesn't throw), the result is simply returned.
+ * <li>If the method returns normally (doesn't throw) and the result matches the {@link #retryOnResult()} predicate,
+ * the method call is retried.
+ * <li>Otherwise, if the method returns normally (doesn't throw), the result is simply returned.
+ * <li>Otherwise, if the {@link #classifier()} parameter is set and the classifier returns a positive value for the
+ * thrown object, the method call is retried.
+ * <li>Otherwise, if the {@link #classifier()} parameter is set, the thrown object is rethrown.
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #abortOn()} parameter, the thrown object
  * is rethrown.
  * <li>Otherwise, if the thrown object is assignable to any value in the {@link #retryOn()} parameter, the method call
@@ -54,6 +59,8 @@ import jakarta.interceptor.InterceptorBinding;
  * @see #jitterDelayUnit()
  * @see #retryOn()
  * @see #abortOn()
+ * @see #retryOnResult()
+ * @see #classifier()
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  * @author John Ament
@@ -65,6 +72,23 @@ import jakarta.interceptor.InterceptorBinding;
 @InterceptorBinding
 public @interface Retry {
 
+    /**
+     * Create a default class so the result predicate and the exception classifier are not required to be set all the
+     * time. As a result predicate, it matches no result. As an exception classifier, it is never invoked; the lists of
+     * exception types are used instead.
+     */
+    class DEFAULT implements ResultPredicate<Object>, ExceptionClassifier {
+        @Override
+        public boolean test(Object result) {
+            return false;
+        }
+
+        @Override
+        public int classify(Throwable failure) {
+            return 0;
+        }
+    }
+
     /**
      * The max number of the retries.
      *
@@ -76,6 +100,11 @@ public @interface Retry {
 
     /**
      * The delay between retries. Defaults to 0. The value must be greater than or equal to 0.
+     * <p>
+     * If the thrown object implements {@link org.eclipse.microprofile.faulttolerance.exceptions.RetryAfterHint
+     * RetryAfterHint} and provides a hint, the hint is used as the delay before the next retry instead of this delay
+     * and the {@link #jitter()}. If the next retry would then start after the {@link #maxDuration()} has elapsed, no
+     * more retries are performed.
      *
      * @return the delay time
      */
@@ -151,4 +180,36 @@ public @interface Retry {
     @Nonbinding
     Class<? extends Throwable>[] abortOn() default {};
 
+    /**
+     * The class of the predicate which decides whether a result returned by the method should trigger a retry. A new
+     * instance of the class is created using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If the method returns normally and the predicate matches the result, the method call is retried, without any
+     * exception being created. If the maximum number of retries or the maximum duration is reached, the last result is
+     * returned.
+     * <p>
+     * If the method is annotated with {@link Asynchronous} and returns a {@link java.util.concurrent.CompletionStage
+     * CompletionStage}, the predicate is applied to the value the {@code CompletionStage} completes with. If the
+     * method is annotated with {@link Asynchronous} and returns a {@link java.util.concurrent.Future Future}, this
+     * parameter must not be set. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return the result predicate class
+     */
+    @Nonbinding
+    Class<? extends ResultPredicate<?>> retryOnResult() default DEFAULT.class;
+
+    /**
+     * The class of the classifier which decides whether an exception thrown by the method should trigger a retry. A
+     * new instance of the class is created using the CDI SPI. The instance is unmanaged.
+     * <p>
+     * If this parameter is set, the method call is retried if the classifier returns a positive value for the thrown
+     * object, and the thrown object is rethrown otherwise. The {@link #retryOn()} and {@link #abortOn()} parameters are
+     * not used.
+     *
+     * @return the exception classifier class
+     */
+    @Nonbinding
+    Class<? extends ExceptionClassifier> classifier() default DEFAULT.class;
+
 }
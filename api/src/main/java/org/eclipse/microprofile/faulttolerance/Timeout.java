@@ -31,9 +31,29 @@ import jakarta.interceptor.InterceptorBinding;
 
 /**
  * The annotation to define a method execution timeout.
+ * <p>
+ * By default, the timeout applies to each attempt of the method execution, and is restarted for each retry if the
+ * method is also annotated with {@link Retry}. If {@link #scope()} is {@link Scope#TOTAL}, the timeout applies to the
+ * whole invocation instead, including all retries, the delays between them and any fallback.
+ * <p>
+ * If deadline propagation is enabled, the timeout also bounds the methods with Fault Tolerance annotations called by
+ * the annotated method, as described in {@link DeadlineContext}.
+ * <p>
+ * If {@link #adaptivePercentile()} is set, the timeout is adaptive: it is computed from the observed execution times
+ * of the method and {@link #value()} is only used as its upper bound.
+ * <p>
+ * If {@link #soft()} is {@code true}, the execution is not stopped when the timeout is reached and its result is kept
+ * for later invocations.
  *
  * @see #value()
  * @see #unit()
+ * @see #scope()
+ * @see #minRemaining()
+ * @see #interrupt()
+ * @see #adaptivePercentile()
+ * @see #adaptiveFactor()
+ * @see #minValue()
+ * @see #soft()
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  */
@@ -44,9 +64,28 @@ import jakarta.interceptor.InterceptorBinding;
 @InterceptorBinding
 public @interface Timeout {
 
+    /**
+     * What the timeout applies to.
+     */
+    enum Scope {
+        /**
+         * The timeout applies to each attempt of the method execution and is restarted for each retry.
+         */
+        ATTEMPT,
+
+        /**
+         * The timeout applies to the whole invocation, from when the method is called until the result is returned
+         * to the caller, including all retries, the delays between them and any fallback.
+         */
+        TOTAL
+    }
+
     /**
      * The timeout value. The value must be greater than or equal to 0. 0 means no timeout configured. Otherwise,
      * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * If the timeout is adaptive, this is the maximum value of the effective timeout, and the effective timeout until
+     * enough executions have been observed. See {@link #adaptivePercentile()}.
      *
      * @return the timeout value
      */
@@ -61,4 +100,106 @@ public @interface Timeout {
     @Nonbinding
     ChronoUnit unit() default ChronoUnit.MILLIS;
 
+    /**
+     * What the timeout applies to. Defaults to {@link Scope#ATTEMPT}.
+     * <p>
+     * If the scope is {@link Scope#TOTAL} and the timeout is reached, the invocation fails with a
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException TimeoutException}. No further retry
+     * is performed and no fallback is started, and a fallback which is running is interrupted.
+     *
+     * @return the timeout scope
+     */
+    @Nonbinding
+    Scope scope() default Scope.ATTEMPT;
+
+    /**
+     * The minimum remaining time needed to start a retry, in the {@link #unit()} of the timeout. The value must be
+     * greater than or equal to 0. If the {@link #scope()} is {@link Scope#TOTAL} and the value is greater than 0, it
+     * must also be less than {@link #value()}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     * <p>
+     * Only used if the {@link #scope()} is {@link Scope#TOTAL}. A retry is not started if the time remaining before
+     * the timeout, once any delay before the retry has elapsed, would be shorter than this value. Instead, the failure
+     * of the last attempt is handled as if no more retries could be performed.
+     *
+     * @return the minimum remaining time needed to start a retry
+     */
+    @Nonbinding
+    long minRemaining() default 0;
+
+    /**
+     * Whether the thread running the method is interrupted when the timeout is reached. Defaults to {@code true}.
+     * <p>
+     * If {@code false}, the thread is not interrupted. The method is expected to stop its work when it is cancelled,
+     * by checking {@link CancellationToken#isCancelled()} or by registering a callback with
+     * {@link CancellationToken#onCancel(Runnable)}, for example to close a socket on which it is blocked. The
+     * {@link CancellationToken} is cancelled when the timeout is reached, whatever the value of this parameter.
+     *
+     * @return whether the thread running the method is interrupted when the timeout is reached
+     */
+    @Nonbinding
+    boolean interrupt() default true;
+
+    /**
+     * The percentile of the observed execution times used to compute an adaptive timeout. The value must be 0, or
+     * greater than 0 and less than 100. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs. Defaults to
+     * 0, which means the timeout is not adaptive.
+     * <p>
+     * If the value is not 0, the effective timeout is the given percentile of the execution times recorded for the
+     * method, multiplied by {@link #adaptiveFactor()}, and clamped between {@link #minValue()} and {@link #value()}.
+     * The execution times are the ones recorded by the {@code ft.timeout.executionDuration} metric, whether metrics
+     * are enabled or not. The effective timeout is {@link #value()} until at least 100 executions have been recorded.
+     *
+     * @return the percentile of the execution times used to compute the timeout, or 0 if the timeout is not adaptive
+     */
+    @Nonbinding
+    double adaptivePercentile() default 0;
+
+    /**
+     * The factor by which the observed {@link #adaptivePercentile() percentile} of the execution times is multiplied to
+     * compute an adaptive timeout. The value must be greater than or equal to 1. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs. Defaults to
+     * 1.5.
+     * <p>
+     * Only used if the timeout is adaptive.
+     *
+     * @return the factor applied to the observed percentile of the execution times
+     */
+    @Nonbinding
+    double adaptiveFactor() default 1.5;
+
+    /**
+     * The minimum value of an adaptive timeout, in the {@link #unit()} of the timeout. The value must be greater than
+     * or equal to 0 and less than or equal to {@link #value()}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs. Defaults to
+     * 0.
+     * <p>
+     * Only used if the timeout is adaptive.
+     *
+     * @return the minimum value of an adaptive timeout
+     */
+    @Nonbinding
+    long minValue() default 0;
+
+    /**
+     * Whether the timeout is soft. Defaults to {@code false}.
+     * <p>
+     * If {@code true}, the invocation fails with a
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException TimeoutException} when the timeout is
+     * reached, but the execution is not interrupted or cancelled and continues in the background. It still counts
+     * towards the limits of any {@link Bulkhead} until it completes. If it completes successfully, its result is
+     * stored and can be obtained by a fallback of a later invocation with the same parameter values by calling
+     * {@link ExecutionContext#getStaleResult(Class)}. If the method is also annotated with {@link CacheResult}, the
+     * result is stored in the cache instead, and the stale result is the cached result, even if it has expired.
+     * <p>
+     * A soft timeout can only be used on a method annotated with {@link Asynchronous} and with the {@link #scope()}
+     * {@link Scope#ATTEMPT}. Otherwise,
+     * {@link org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException} occurs.
+     *
+     * @return whether the timeout is soft
+     */
+    @Nonbinding
+    boolean soft() default false;
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.exceptions;
+
+/**
+ * The exception should be thrown when the result of a batch call does not contain a result for one of the items of the
+ * batch. Only the call for that item fails with this exception.
+ *
+ * @see org.eclipse.microprofile.faulttolerance.Batch
+ */
+public class BatchItemException extends FaultToleranceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BatchItemException() {
+        super();
+    }
+
+    public BatchItemException(Throwable t) {
+        super(t);
+    }
+
+    public BatchItemException(String message) {
+        super(message);
+    }
+
+    public BatchItemException(String message, Throwable t) {
+        super(message, t);
+    }
+}
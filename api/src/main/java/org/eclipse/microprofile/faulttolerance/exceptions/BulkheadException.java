@@ -18,29 +18,139 @@
  */
 package org.eclipse.microprofile.faulttolerance.exceptions;
 
+import java.time.Duration;
+
 /**
  * The exception should be thrown when Bulkhead implementation throws an exception, e.g. Waiting Queue is full or no
  * Semaphore permits are available. <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  *
  */
-public class BulkheadException extends FaultToleranceException {
+public class BulkheadException extends FaultToleranceException implements RetryAfterHint {
 
     private static final long serialVersionUID = 3569768756115160625L;
 
+    private static final BulkheadException SHARED_INSTANCE =
+            new BulkheadException("Bulkhead is full", null, false, false);
+
+    private final Duration retryAfter;
+
     public BulkheadException() {
         super();
+        this.retryAfter = null;
     }
 
     public BulkheadException(Throwable t) {
         super(t);
+        this.retryAfter = null;
     }
 
     public BulkheadException(String message) {
         super(message);
+        this.retryAfter = null;
     }
 
     public BulkheadException(String message, Throwable t) {
         super(message, t);
+        this.retryAfter = null;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, and
+     * writable stack trace enabled or disabled.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     */
+    protected BulkheadException(String message, Throwable t, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, t, enableSuppression, writableStackTrace);
+        this.retryAfter = null;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, writable
+     * stack trace enabled or disabled, and retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     */
+    protected BulkheadException(String message, Throwable t, boolean enableSuppression, boolean writableStackTrace,
+            Duration retryAfter) {
+        super(message, t, enableSuppression, writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Create a new exception with the specified detail message and retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     * @return the new exception
+     */
+    public static BulkheadException withRetryAfter(String message, Duration retryAfter) {
+        return new BulkheadException(message, null, true, true, retryAfter);
+    }
+
+    /**
+     * Create a new exception which does not fill in its stack trace and which does not allow suppressed exceptions.
+     *
+     * @param message
+     *            the detail message
+     * @return the new exception
+     */
+    public static BulkheadException withoutStackTrace(String message) {
+        return new BulkheadException(message, null, false, false);
+    }
+
+    /**
+     * Create a new exception which does not fill in its stack trace and which does not allow suppressed exceptions,
+     * with the specified retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     * @return the new exception
+     */
+    public static BulkheadException withoutStackTrace(String message, Duration retryAfter) {
+        return new BulkheadException(message, null, false, false, retryAfter);
+    }
+
+    /**
+     * Returns an instance shared by all callers, which has no stack trace and cannot be modified. Implementations may
+     * throw this instance whenever a bulkhead rejects a call, as described in the specification.
+     * <p>
+     * The shared instance has no retry-after hint.
+     *
+     * @return the shared instance
+     */
+    public static BulkheadException sharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * The estimated time after which a call rejected by a bulkhead may succeed, as computed by the implementation.
+     *
+     * @return the estimated time, or {@code null} if there is no estimate
+     */
+    @Override
+    public Duration retryAfter() {
+        return retryAfter;
     }
 
 }
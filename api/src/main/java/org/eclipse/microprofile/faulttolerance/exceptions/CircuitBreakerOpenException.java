@@ -18,28 +18,140 @@
  */
 package org.eclipse.microprofile.faulttolerance.exceptions;
 
+import java.time.Duration;
+
 /**
  * The exception should be thrown when circuit breaker is open. <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  *
  */
-public class CircuitBreakerOpenException extends FaultToleranceException {
+public class CircuitBreakerOpenException extends FaultToleranceException implements RetryAfterHint {
 
     private static final long serialVersionUID = 958116453839967874L;
 
+    private static final CircuitBreakerOpenException SHARED_INSTANCE =
+            new CircuitBreakerOpenException("Circuit breaker is open", null, false, false);
+
+    private final Duration retryAfter;
+
     public CircuitBreakerOpenException() {
         super();
+        this.retryAfter = null;
     }
 
     public CircuitBreakerOpenException(Throwable t) {
         super(t);
+        this.retryAfter = null;
     }
 
     public CircuitBreakerOpenException(String message) {
         super(message);
+        this.retryAfter = null;
     }
 
     public CircuitBreakerOpenException(String message, Throwable t) {
         super(message, t);
+        this.retryAfter = null;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, and
+     * writable stack trace enabled or disabled.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     */
+    protected CircuitBreakerOpenException(String message, Throwable t, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, t, enableSuppression, writableStackTrace);
+        this.retryAfter = null;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, writable
+     * stack trace enabled or disabled, and retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     */
+    protected CircuitBreakerOpenException(String message, Throwable t, boolean enableSuppression,
+            boolean writableStackTrace, Duration retryAfter) {
+        super(message, t, enableSuppression, writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Create a new exception with the specified detail message and retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     * @return the new exception
+     */
+    public static CircuitBreakerOpenException withRetryAfter(String message, Duration retryAfter) {
+        return new CircuitBreakerOpenException(message, null, true, true, retryAfter);
+    }
+
+    /**
+     * Create a new exception which does not fill in its stack trace and which does not allow suppressed exceptions.
+     *
+     * @param message
+     *            the detail message
+     * @return the new exception
+     */
+    public static CircuitBreakerOpenException withoutStackTrace(String message) {
+        return new CircuitBreakerOpenException(message, null, false, false);
+    }
+
+    /**
+     * Create a new exception which does not fill in its stack trace and which does not allow suppressed exceptions,
+     * with the specified retry-after hint.
+     *
+     * @param message
+     *            the detail message
+     * @param retryAfter
+     *            the estimated time after which the call may succeed, or {@code null} if there is no estimate
+     * @return the new exception
+     */
+    public static CircuitBreakerOpenException withoutStackTrace(String message, Duration retryAfter) {
+        return new CircuitBreakerOpenException(message, null, false, false, retryAfter);
+    }
+
+    /**
+     * Returns an instance shared by all callers, which has no stack trace and cannot be modified. Implementations may
+     * throw this instance whenever an open circuit breaker rejects a call, as described in the specification.
+     * <p>
+     * The shared instance has no retry-after hint.
+     *
+     * @return the shared instance
+     */
+    public static CircuitBreakerOpenException sharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * The estimated time after which a call rejected by a circuit breaker may succeed, as computed by the
+     * implementation.
+     *
+     * @return the estimated time, or {@code null} if there is no estimate
+     */
+    @Override
+    public Duration retryAfter() {
+        return retryAfter;
     }
 
 }
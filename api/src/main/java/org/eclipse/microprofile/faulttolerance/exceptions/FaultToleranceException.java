@@ -43,4 +43,26 @@ public class FaultToleranceException extends RuntimeException {
         super(message, t);
     }
 
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, and
+     * writable stack trace enabled or disabled.
+     * <p>
+     * An exception constructed with {@code writableStackTrace} set to {@code false} does not fill in its stack trace,
+     * which makes it cheap to create. If {@code enableSuppression} is also {@code false}, the exception cannot be
+     * modified after it is constructed and a single instance can safely be thrown any number of times.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     */
+    protected FaultToleranceException(String message, Throwable t, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, t, enableSuppression, writableStackTrace);
+    }
+
 }
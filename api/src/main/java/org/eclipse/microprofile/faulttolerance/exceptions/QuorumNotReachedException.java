@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.exceptions;
+
+/**
+ * The exception should be thrown when too many of the target methods of a quorum call have failed for the required
+ * number of them to succeed. The exception of each failed target method is added to it as a suppressed exception.
+ *
+ * @see org.eclipse.microprofile.faulttolerance.Quorum
+ */
+public class QuorumNotReachedException extends FaultToleranceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QuorumNotReachedException() {
+        super();
+    }
+
+    public QuorumNotReachedException(Throwable t) {
+        super(t);
+    }
+
+    public QuorumNotReachedException(String message) {
+        super(message);
+    }
+
+    public QuorumNotReachedException(String message, Throwable t) {
+        super(message, t);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Implemented by exceptions which carry a hint about when the failed operation may be attempted again, for example an
+ * exception created from an HTTP response with status {@code 429} or {@code 503} and a {@code Retry-After} header.
+ * <p>
+ * If a method annotated with {@link org.eclipse.microprofile.faulttolerance.Retry Retry} throws an exception which
+ * implements this interface, the exception is retried and the hint is not {@code null}, the hint is used as the delay
+ * before the next attempt instead of the configured delay and jitter. If the next attempt would then start after the
+ * max duration of the retry policy has elapsed, no more retries are performed and the exception is rethrown.
+ *
+ */
+public interface RetryAfterHint {
+    /**
+     * The time to wait before the failed operation may be attempted again.
+     *
+     * @return the time to wait, which must not be negative, or {@code null} if there is no hint
+     */
+    Duration retryAfter();
+
+}
@@ -26,6 +26,8 @@ public class TimeoutException extends FaultToleranceException {
 
     private static final long serialVersionUID = 958116453839967874L;
 
+    private static final TimeoutException SHARED_INSTANCE = new TimeoutException("Timeout", null, false, false);
+
     public TimeoutException() {
         super();
     }
@@ -42,4 +44,42 @@ public class TimeoutException extends FaultToleranceException {
         super(message, t);
     }
 
+    /**
+     * Constructs a new exception with the specified detail message, cause, suppression enabled or disabled, and
+     * writable stack trace enabled or disabled.
+     *
+     * @param message
+     *            the detail message
+     * @param t
+     *            the cause, or {@code null}
+     * @param enableSuppression
+     *            whether or not suppression is enabled
+     * @param writableStackTrace
+     *            whether or not the stack trace should be writable
+     */
+    protected TimeoutException(String message, Throwable t, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, t, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Create a new exception which does not fill in its stack trace and which does not allow suppressed exceptions.
+     *
+     * @param message
+     *            the detail message
+     * @return the new exception
+     */
+    public static TimeoutException withoutStackTrace(String message) {
+        return new TimeoutException(message, null, false, false);
+    }
+
+    /**
+     * Returns an instance shared by all callers, which has no stack trace and cannot be modified. Implementations may
+     * throw this instance whenever a call times out, as described in the specification.
+     *
+     * @return the shared instance
+     */
+    public static TimeoutException sharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
 }
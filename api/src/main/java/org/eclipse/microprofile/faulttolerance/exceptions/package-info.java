@@ -23,5 +23,5 @@
  * Exceptions for Microprofile Fault Tolerance
  *
  */
-@org.osgi.annotation.versioning.Version("1.0")
+@org.osgi.annotation.versioning.Version("1.1")
 package org.eclipse.microprofile.faulttolerance.exceptions;
@@ -21,21 +21,29 @@
 package org.eclipse.microprofile.fault.tolerance.tck;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.microprofile.fault.tolerance.tck.asynchronous.AsyncCancellationClient;
+import org.eclipse.microprofile.fault.tolerance.tck.asynchronous.CancellationRecordingFuture;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
 import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
 import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
 import org.eclipse.microprofile.fault.tolerance.tck.util.Exceptions;
 import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
 import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -58,16 +66,23 @@ import jakarta.inject.Inject;
  * <li>When {@code cancel()} returns, calling {@code isDone()} should return {@code true}</li>
  * <li>If {@code cancel()} returns {@code true}, calling {@code isCancelled()} should return {@code true}</li>
  * </ul>
+ * <p>
+ * Also test that the {@code CompletionStage} returned by the method is cancelled when the result returned to the
+ * caller is cancelled or times out.
  */
 public class AsyncCancellationTest extends Arquillian {
 
     @Deployment
     public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(AsyncCancellationClient.class, "serviceAsyncStageTimeout");
+
         JavaArchive testJar = ShrinkWrap
                 .create(JavaArchive.class, "ftAsyncCancellation.jar")
-                .addClasses(AsyncCancellationClient.class)
+                .addClasses(AsyncCancellationClient.class, CancellationRecordingFuture.class)
                 .addPackage(Packages.UTILS)
                 .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
                 .as(JavaArchive.class);
 
         WebArchive war = ShrinkWrap
@@ -188,4 +203,39 @@ public class AsyncCancellationTest extends Arquillian {
                     "Method should not have been retried - too many retry attempts");
         }
     }
+
+    @Test
+    public void testCancelPropagatesToReturnedStage() {
+        CancellationRecordingFuture<String> stage = new CancellationRecordingFuture<>();
+        AtomicBoolean wasCalled = new AtomicBoolean(false);
+
+        CompletionStage<String> result = bean.serviceAsyncStage(stage, wasCalled);
+        await("wasCalled").untilAtomic(wasCalled, is(true));
+        // The method has returned the stage once the implementation has subscribed to it, only then must a
+        // cancellation be propagated to it
+        await("returned stage subscribed to").until(() -> stage.getNumberOfDependents() > 0);
+
+        result.toCompletableFuture().cancel(true);
+
+        await("returned stage cancelled").until(stage::isCancelled);
+        assertTrue(stage.wasCancelledWithInterrupt(), "Returned stage was not cancelled with cancel(true)");
+    }
+
+    @Test
+    public void testTimeoutCancelsReturnedStage() throws InterruptedException {
+        CancellationRecordingFuture<String> stage = new CancellationRecordingFuture<>();
+
+        CompletionStage<String> result = bean.serviceAsyncStageTimeout(stage);
+        try {
+            result.toCompletableFuture().get(TCKConfig.getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+            fail("Expected a TimeoutException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        } catch (java.util.concurrent.TimeoutException e) {
+            fail("The method did not time out", e);
+        }
+
+        await("returned stage cancelled").until(stage::isCancelled);
+        assertTrue(stage.wasCancelledWithInterrupt(), "Returned stage was not cancelled with cancel(true)");
+    }
 }
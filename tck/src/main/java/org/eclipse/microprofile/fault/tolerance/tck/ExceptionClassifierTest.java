@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+import org.eclipse.microprofile.fault.tolerance.tck.exception.classifier.ExceptionClassifierService;
+import org.eclipse.microprofile.fault.tolerance.tck.exception.classifier.StatusException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that the {@code classifier} parameter of {@code Retry}, {@code CircuitBreaker} and {@code Fallback} is used
+ * instead of the lists of exception types, and that the weight it returns is used by the circuit breaker.
+ */
+public class ExceptionClassifierTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftExceptionClassifier.jar")
+                .addPackage(ExceptionClassifierService.class.getPackage())
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftExceptionClassifier.war")
+                .addAsLibrary(jar);
+    }
+
+    @Inject
+    private ExceptionClassifierService service;
+
+    @Test
+    public void retryMatchingException() {
+        StatusException e = expectThrows(StatusException.class, () -> service.retryUnavailable(503));
+        assertEquals(e.getStatus(), 503);
+        assertEquals(service.getRetryUnavailableCounter(), 3, "Should have retried twice");
+    }
+
+    @Test
+    public void retryNonMatchingException() {
+        StatusException e = expectThrows(StatusException.class, () -> service.retryBadRequest(400));
+        assertEquals(e.getStatus(), 400);
+        assertEquals(service.getRetryBadRequestCounter(), 1, "Should not have retried");
+    }
+
+    @Test
+    public void circuitBreakerHeavyFailureOpensCircuit() throws StatusException {
+        // the failure has weight 2, 2 / 4 reaches the failure ratio of 0.5
+        expectThrows(StatusException.class, () -> service.circuitBreakerHeavyFailure(503));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(service.circuitBreakerHeavyFailure(200), "OK");
+        }
+
+        expectThrows(CircuitBreakerOpenException.class, () -> service.circuitBreakerHeavyFailure(200));
+    }
+
+    @Test
+    public void circuitBreakerLightFailureKeepsCircuitClosed() throws StatusException {
+        // the failure has weight 1, 1 / 4 is below the failure ratio of 0.5
+        expectThrows(StatusException.class, () -> service.circuitBreakerLightFailure(500));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(service.circuitBreakerLightFailure(200), "OK");
+        }
+
+        assertEquals(service.circuitBreakerLightFailure(200), "OK");
+    }
+
+    @Test
+    public void fallbackMatchingException() throws StatusException {
+        assertEquals(service.fallbackUnavailable(503), "fallback");
+    }
+
+    @Test
+    public void fallbackNonMatchingException() {
+        StatusException e = expectThrows(StatusException.class, () -> service.fallbackUnavailable(400));
+        assertEquals(e.getStatus(), 400);
+    }
+
+}
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.eclipse.microprofile.fault.tolerance.tck;
 
+import org.eclipse.microprofile.fault.tolerance.tck.fallback.clientserver.FallbackAlternativesClient;
 import org.eclipse.microprofile.fault.tolerance.tck.fallback.clientserver.FallbackClassLevelClient;
 import org.eclipse.microprofile.fault.tolerance.tck.fallback.clientserver.FallbackClient;
 import org.eclipse.microprofile.fault.tolerance.tck.fallback.clientserver.FallbackOnlyClient;
@@ -52,6 +53,7 @@ public class FallbackTest extends Arquillian {
     private @Inject FallbackWithBeanClient fallbackWithBeanClient;
     private @Inject FallbackClassLevelClient fallbackClassLevelClient;
     private @Inject FallbackOnlyClient fallbackOnlyClient;
+    private @Inject FallbackAlternativesClient fallbackAlternativesClient;
 
     @Deployment
     public static WebArchive deploy() {
@@ -60,7 +62,7 @@ public class FallbackTest extends Arquillian {
                         FallbackClassLevelClient.class, StringFallbackHandler.class,
                         SecondStringFallbackHandler.class,
                         StringFallbackHandlerWithBean.class, MyBean.class,
-                        FallbackOnlyClient.class, TestException.class)
+                        FallbackOnlyClient.class, FallbackAlternativesClient.class, TestException.class)
                 .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
                 .as(JavaArchive.class);
 
@@ -289,4 +291,71 @@ public class FallbackTest extends Arquillian {
         Assert.assertEquals(fallbackOnlyClient.getCounterForInvokingServiceB(), 1,
                 "The getCounterForInvokingServiceB should be 1");
     }
+
+    /**
+     * Test that the alternatives of a Fallback are used in order when the fallback fails.<br>
+     * <p>
+     * The fallback method of ServiceA fails with a TestException, so the first alternative, which applies to it, is
+     * invoked and returns normally. The second alternative is not used.
+     */
+    @Test
+    public void testFallbackAlternativeUsedWhenFallbackFails() {
+        try {
+            String result = fallbackAlternativesClient.serviceA();
+            Assert.assertEquals(result, "cache for serviceA");
+        } catch (RuntimeException ex) {
+            Assert.fail("serviceA should not throw a RuntimeException in testFallbackAlternativeUsedWhenFallbackFails",
+                    ex);
+        }
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingService(), 1,
+                "The getCounterForInvokingService should be 1");
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingReplica(), 1,
+                "The getCounterForInvokingReplica should be 1");
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingCache(), 1,
+                "The getCounterForInvokingCache should be 1");
+    }
+
+    /**
+     * Test that an alternative which does not apply to the exception thrown by the fallback is skipped.<br>
+     * <p>
+     * The fallback method of ServiceB fails with an IllegalStateException, which the first alternative does not apply
+     * to, so the second alternative, a FallbackHandler, is invoked.
+     */
+    @Test
+    public void testFallbackAlternativeSkipped() {
+        try {
+            String result = fallbackAlternativesClient.serviceB();
+            Assert.assertTrue(result.contains("serviceB"),
+                    "The message should be \"fallback for serviceB\"");
+        } catch (RuntimeException ex) {
+            Assert.fail("serviceB should not throw a RuntimeException in testFallbackAlternativeSkipped", ex);
+        }
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingReplica(), 1,
+                "The getCounterForInvokingReplica should be 1");
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingCache(), 0,
+                "The getCounterForInvokingCache should be 0");
+    }
+
+    /**
+     * Test that the exception thrown by the last invoked alternative is rethrown when no remaining alternative applies
+     * to it.<br>
+     * <p>
+     * The fallback method and the first alternative of ServiceC fail with a TestException, and the second alternative
+     * skips it. The service itself is only called once.
+     */
+    @Test
+    public void testFallbackAlternativesExhausted() {
+        try {
+            fallbackAlternativesClient.serviceC();
+            Assert.fail("serviceC should throw a TestException in testFallbackAlternativesExhausted");
+        } catch (TestException ex) {
+            Assert.assertEquals(ex.getMessage(), "Test Exception - Cache miss");
+        }
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingService(), 1,
+                "The getCounterForInvokingService should be 1");
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingReplica(), 1,
+                "The getCounterForInvokingReplica should be 1");
+        Assert.assertEquals(fallbackAlternativesClient.getCounterForInvokingCache(), 1,
+                "The getCounterForInvokingCache should be 1");
+    }
 }
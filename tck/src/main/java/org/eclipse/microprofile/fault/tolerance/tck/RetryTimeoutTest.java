@@ -20,9 +20,16 @@
 package org.eclipse.microprofile.fault.tolerance.tck;
 
 import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
 
+import java.time.Duration;
+
 import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
 import org.eclipse.microprofile.fault.tolerance.tck.retrytimeout.clientserver.RetryTimeoutClient;
 import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
@@ -61,7 +68,10 @@ public class RetryTimeoutTest extends Arquillian {
                 .setValue(RetryTimeoutClient.class, "serviceWithoutRetryOn", Timeout.class,
                         getConfig().getTimeoutInStr(500))
                 .setValue(RetryTimeoutClient.class, "serviceWithAbortOn", Timeout.class,
-                        getConfig().getTimeoutInStr(500));
+                        getConfig().getTimeoutInStr(500))
+                .autoscaleMethod(RetryTimeoutClient.class, "serviceTotal")
+                .autoscaleMethod(RetryTimeoutClient.class, "serviceTotalMinRemaining")
+                .autoscaleMethod(RetryTimeoutClient.class, "serviceTotalSlow");
 
         JavaArchive testJar = ShrinkWrap
                 .create(JavaArchive.class, "ftRetryTimeout.jar")
@@ -153,4 +163,64 @@ public class RetryTimeoutTest extends Arquillian {
                 "The execution count should be 1 (no retries)");
     }
 
+    /**
+     * Test that a total timeout bounds the whole invocation, including retries
+     */
+    @Test
+    public void testTotalTimeout() {
+        long start = System.nanoTime();
+        try {
+            clientForRetryTimeout.serviceTotal();
+            fail("Timeout exception not thrown");
+        } catch (TimeoutException e) {
+            // expected
+        } catch (TestException e) {
+            fail("serviceTotal should not throw a TestException in testTotalTimeout", e);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Attempts start at about 0ms, 400ms and 800ms
+        assertThat("The execution count should be 3 or 2 (timed out during the third attempt)",
+                clientForRetryTimeout.getCounterForInvokingServiceTotal(),
+                both(greaterThanOrEqualTo(2)).and(lessThanOrEqualTo(3)));
+        assertThat("The invocation should not take much longer than the total timeout", elapsed,
+                lessThan(config.getTimeoutInDuration(1800)));
+    }
+
+    /**
+     * Test that a retry is not started if less than {@code minRemaining} would remain before the total timeout
+     */
+    @Test
+    public void testTotalTimeoutMinRemaining() {
+        try {
+            clientForRetryTimeout.serviceTotalMinRemaining();
+            fail("TestException not thrown");
+        } catch (TimeoutException e) {
+            fail("serviceTotalMinRemaining should fail with the exception of the last attempt", e);
+        } catch (TestException e) {
+            // expected
+        }
+
+        assertEquals(clientForRetryTimeout.getCounterForInvokingServiceTotalMinRemaining(), 2,
+                "The execution count should be 2 (1 retry + 1)");
+    }
+
+    /**
+     * Test that reaching a total timeout is neither retried nor handled by fallback
+     */
+    @Test
+    public void testTotalTimeoutNoRetryNoFallback() {
+        try {
+            clientForRetryTimeout.serviceTotalSlow();
+            fail("Timeout exception not thrown");
+        } catch (TimeoutException e) {
+            // expected
+        }
+
+        assertEquals(clientForRetryTimeout.getCounterForInvokingServiceTotalSlow(), 1,
+                "The execution count should be 1 (no retries)");
+        assertEquals(clientForRetryTimeout.getCounterForInvokingFallbackForServiceTotal(), 0,
+                "The fallback should not be invoked");
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck;
+
+import static org.testng.Assert.expectThrows;
+
+import java.util.Properties;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.exception.shared.SharedExceptionHierarchyService;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that {@code CircuitBreaker.failOn()} and {@code CircuitBreaker.skipOn()} handle the shared exceptions thrown by
+ * the implementation according to their class when {@code mp.fault.tolerance.exceptions.mode} is set to
+ * {@code shared}.
+ * <p>
+ * The application exceptions are not affected by this mode, see {@link CircuitBreakerExceptionHierarchyTest}.
+ */
+public class SharedExceptionCircuitBreakerHierarchyTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        Properties props = new Properties();
+        props.put("mp.fault.tolerance.exceptions.mode", "shared");
+
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(SharedExceptionHierarchyService.class, "timeoutInFailOn")
+                .autoscaleMethod(SharedExceptionHierarchyService.class, "timeoutSubclassInSkipOn")
+                .mergeProperties(props);
+
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftSharedExceptionCircuitBreakerHierarchy.jar")
+                .addClass(SharedExceptionHierarchyService.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap
+                .create(WebArchive.class, "ftSharedExceptionCircuitBreakerHierarchy.war")
+                .addAsLibrary(jar);
+    }
+
+    @Inject
+    private SharedExceptionHierarchyService sharedService;
+
+    @Test
+    public void timeoutInFailOn() {
+        // TimeoutException is in failOn
+        expectThrows(TimeoutException.class, sharedService::timeoutInFailOn);
+        expectThrows(CircuitBreakerOpenException.class, sharedService::timeoutInFailOn);
+    }
+
+    @Test
+    public void timeoutSubclassInSkipOn() {
+        // TimeoutException <: FaultToleranceException, which is in skipOn
+        expectThrows(TimeoutException.class, sharedService::timeoutSubclassInSkipOn);
+        expectThrows(TimeoutException.class, sharedService::timeoutSubclassInSkipOn);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.expectThrows;
+
+import java.util.Properties;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.exception.shared.SharedExceptionService;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that exceptions are shared and have no stack trace when {@code mp.fault.tolerance.exceptions.mode} is set to
+ * {@code shared}, and that they are still handled according to their class.
+ */
+public class SharedExceptionTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        Properties props = new Properties();
+        props.put("mp.fault.tolerance.exceptions.mode", "shared");
+
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(SharedExceptionService.class, "timeout")
+                .autoscaleMethod(SharedExceptionService.class, "timeoutWithFallback")
+                .mergeProperties(props);
+
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftSharedException.jar")
+                .addClass(SharedExceptionService.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftSharedException.war")
+                .addAsLibrary(jar);
+    }
+
+    @Inject
+    private SharedExceptionService service;
+
+    @Test
+    public void testCircuitBreakerOpenExceptionShared() {
+        // First call fails and opens the circuit
+        expectThrows(TestException.class, service::circuitBreaker);
+
+        CircuitBreakerOpenException first = expectThrows(CircuitBreakerOpenException.class, service::circuitBreaker);
+        CircuitBreakerOpenException second = expectThrows(CircuitBreakerOpenException.class, service::circuitBreaker);
+        assertShared(first, second);
+    }
+
+    @Test
+    public void testBulkheadExceptionShared() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> task = taskManager.runBarrierTask(service::bulkhead);
+            task.assertAwaits();
+
+            BulkheadException first = expectThrows(BulkheadException.class,
+                    () -> service.bulkhead(taskManager.newBarrier()));
+            BulkheadException second = expectThrows(BulkheadException.class,
+                    () -> service.bulkhead(taskManager.newBarrier()));
+            assertShared(first, second);
+        }
+    }
+
+    @Test
+    public void testTimeoutExceptionShared() {
+        TimeoutException first = expectThrows(TimeoutException.class, service::timeout);
+        TimeoutException second = expectThrows(TimeoutException.class, service::timeout);
+        assertShared(first, second);
+    }
+
+    @Test
+    public void testFallbackAppliedOnSharedException() {
+        // First call fails, is skipped by the fallback, and opens the circuit
+        expectThrows(TestException.class, service::circuitBreakerWithFallback);
+
+        // CircuitBreakerOpenException <: FaultToleranceException, which is in applyOn
+        assertThat(service.circuitBreakerWithFallback(), is(SharedExceptionService.FALLBACK_RESULT));
+    }
+
+    @Test
+    public void testFallbackSkippedOnSharedException() {
+        // TimeoutException is in skipOn
+        expectThrows(TimeoutException.class, service::timeoutWithFallback);
+    }
+
+    private void assertShared(FaultToleranceException first, FaultToleranceException second) {
+        assertThat(second, sameInstance(first));
+        assertThat("stack trace of " + first, first.getStackTrace(), arrayWithSize(0));
+    }
+
+}
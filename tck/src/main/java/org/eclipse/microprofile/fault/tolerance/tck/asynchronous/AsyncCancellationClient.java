@@ -21,6 +21,7 @@
 package org.eclipse.microprofile.fault.tolerance.tck.asynchronous;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -29,6 +30,7 @@ import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
 import org.eclipse.microprofile.faulttolerance.Asynchronous;
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
 
 import jakarta.enterprise.context.RequestScoped;
 
@@ -66,4 +68,16 @@ public class AsyncCancellationClient {
         return CompletableFuture.completedFuture(null);
     }
 
+    @Asynchronous
+    public CompletionStage<String> serviceAsyncStage(CompletableFuture<String> stage, AtomicBoolean wasCalled) {
+        wasCalled.set(true);
+        return stage;
+    }
+
+    @Asynchronous
+    @Timeout(500)
+    public CompletionStage<String> serviceAsyncStageTimeout(CompletableFuture<String> stage) {
+        return stage;
+    }
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.asynchronous;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@code CompletableFuture} which records whether it was cancelled with {@code mayInterruptIfRunning} set to
+ * {@code true}
+ * <p>
+ * Stands in for a future returned by an asynchronous client, which would release its resources when cancelled.
+ *
+ * @param <T>
+ *            the result type
+ */
+public class CancellationRecordingFuture<T> extends CompletableFuture<T> {
+
+    private final AtomicBoolean cancelledWithInterrupt = new AtomicBoolean(false);
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (mayInterruptIfRunning) {
+            cancelledWithInterrupt.set(true);
+        }
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    public boolean wasCancelledWithInterrupt() {
+        return cancelledWithInterrupt.get();
+    }
+
+}
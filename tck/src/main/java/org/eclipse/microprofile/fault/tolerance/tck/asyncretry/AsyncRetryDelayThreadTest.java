@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.asyncretry;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.asyncretry.clientserver.AsyncRetryDelayBean;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that the delay before a retry of an asynchronous method does not hold a thread.
+ * <p>
+ * Many invocations are started one after the other, each of them waiting for the previous one to fail its first
+ * attempt. If the implementation held a thread during each delay, either a thread would be created for each invocation,
+ * or the first attempts of later invocations would not run until earlier delays had elapsed.
+ */
+public class AsyncRetryDelayThreadTest extends Arquillian {
+
+    private static final int INVOCATIONS = 100;
+
+    // The delay of AsyncRetryDelayBean.service
+    private static final Duration DELAY = TCKConfig.getConfig().getTimeoutInDuration(5000);
+
+    @Inject
+    private AsyncRetryDelayBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(AsyncRetryDelayBean.class, "service");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftAsyncRetryDelayThread.jar")
+                .addClass(AsyncRetryDelayBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftAsyncRetryDelayThread.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testRetryDelayDoesNotHoldThread() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            results.add(bean.service(i).toCompletableFuture());
+            awaitFirstAttempts(i + 1);
+        }
+
+        // All invocations are now waiting for their retry
+        int threadsDuringDelay = threads.getThreadCount();
+        assertThat("Threads created while " + INVOCATIONS + " invocations wait for a retry",
+                threadsDuringDelay - threadsBefore, lessThan(INVOCATIONS / 2));
+
+        for (int i = 0; i < INVOCATIONS; i++) {
+            assertThat(results.get(i).get(DELAY.toMillis() * 4, TimeUnit.MILLISECONDS), is(i));
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat("Delays should run concurrently", elapsed, lessThan(DELAY.multipliedBy(3)));
+    }
+
+    private void awaitFirstAttempts(int expected) {
+        // Threads held by earlier retry delays would prevent the first attempt from running
+        await("first attempt of invocation " + expected)
+                .atMost(DELAY.dividedBy(10))
+                .pollDelay(Duration.ZERO)
+                .pollInterval(Duration.ofMillis(1))
+                .until(() -> bean.getFirstAttempts() >= expected);
+    }
+
+}
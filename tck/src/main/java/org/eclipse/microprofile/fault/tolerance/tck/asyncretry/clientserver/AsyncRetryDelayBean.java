@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.asyncretry.clientserver;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * An asynchronous method whose first attempt fails for each id and whose retry, after a long delay, succeeds
+ */
+@ApplicationScoped
+public class AsyncRetryDelayBean {
+
+    private final Set<Integer> failedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger firstAttempts = new AtomicInteger();
+
+    @Asynchronous
+    @Retry(maxRetries = 1, delay = 5000, jitter = 0)
+    public CompletionStage<Integer> service(int id) {
+        if (failedIds.add(id)) {
+            firstAttempts.incrementAndGet();
+            throw new TestException();
+        }
+        return CompletableFuture.completedFuture(id);
+    }
+
+    /**
+     * @return the number of first attempts which have run, each of them is then waiting for its retry
+     */
+    public int getFirstAttempts() {
+        return firstAttempts.get();
+    }
+
+}
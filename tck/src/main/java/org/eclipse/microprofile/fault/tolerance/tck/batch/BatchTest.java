@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.batch;
+
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.batch.clientserver.BatchBean;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test the {@code @Batch} annotation
+ */
+public class BatchTest extends Arquillian {
+
+    @Inject
+    private BatchBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(BatchBean.class, "lookup")
+                .autoscaleMethod(BatchBean.class, "lookupSoon")
+                .autoscaleMethod(BatchBean.class, "flakyLookup");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBatch.jar")
+                .addClass(BatchBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftBatch.war")
+                .addAsLibrary(testJar);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        bean.reset();
+    }
+
+    @Test
+    public void testBatchDispatchedWhenFull() throws Exception {
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            results.add(bean.lookup(i));
+        }
+
+        for (int i = 1; i <= 10; i++) {
+            assertThat(get(results.get(i - 1)), is("value-" + i));
+        }
+        assertThat(bean.getBatches(), contains(
+                containsInAnyOrder(1, 2, 3, 4, 5),
+                containsInAnyOrder(6, 7, 8, 9, 10)));
+    }
+
+    @Test
+    public void testBatchDispatchedAfterMaxDelay() throws Exception {
+        CompletionStage<String> result = bean.lookupSoon(7);
+        assertThat("dispatched before maxDelay", result.toCompletableFuture().isDone(), is(false));
+
+        assertThat(get(result), is("value-7"));
+        assertThat(bean.getBatches(), contains(contains(7)));
+    }
+
+    @Test
+    public void testDuplicateItemsPassedOnce() throws Exception {
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i : new int[]{1, 1, 2, 3, 2, 4, 5}) {
+            results.add(bean.lookup(i));
+        }
+
+        assertThat(get(results.get(0)), is("value-1"));
+        assertThat(get(results.get(1)), is("value-1"));
+        assertThat(get(results.get(4)), is("value-2"));
+        assertThat(get(results.get(6)), is("value-5"));
+        assertThat(bean.getBatches(), hasSize(1));
+        assertThat(bean.getBatches().get(0), containsInAnyOrder(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void testFallbackAppliesToMissingItem() throws Exception {
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = -1; i <= 3; i++) {
+            results.add(bean.lookup(i));
+        }
+
+        // The batch method returns no value for negative ids, so those calls fail with BatchItemException
+        assertThat(get(results.get(0)), is("fallback--1"));
+        assertThat(get(results.get(1)), is("value-0"));
+        assertThat(get(results.get(4)), is("value-3"));
+        assertThat(bean.getBatches(), hasSize(1));
+    }
+
+    @Test
+    public void testRetryAppliesToBatchCall() throws Exception {
+        CompletionStage<String> first = bean.flakyLookup(1);
+        CompletionStage<String> second = bean.flakyLookup(2);
+
+        assertThat(get(first), is("value-1"));
+        assertThat(get(second), is("value-2"));
+        assertThat("batch method attempts", bean.getFlakyAttempts(), is(2));
+        assertThat(bean.getBatches(), contains(
+                containsInAnyOrder(1, 2),
+                containsInAnyOrder(1, 2)));
+    }
+
+    private String get(CompletionStage<String> stage) throws Exception {
+        return stage.toCompletableFuture().get(getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+    }
+
+}
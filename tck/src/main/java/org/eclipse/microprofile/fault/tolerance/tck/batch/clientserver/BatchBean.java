@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.batch.clientserver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Batch;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Methods whose calls are combined into calls of a batch method, which records each batch it receives
+ */
+@ApplicationScoped
+public class BatchBean {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger flakyAttempts = new AtomicInteger(0);
+
+    /**
+     * Returns {@code value-id}, or {@code fallback-id} if {@code id} is negative
+     * <p>
+     * The batch is only dispatched once it holds five items.
+     */
+    @Batch(maxSize = 5, maxDelay = 60000, batchMethod = "lookupAll")
+    @Fallback(fallbackMethod = "lookupFallback")
+    public CompletionStage<String> lookup(Integer id) {
+        return lookupAll(Collections.singletonList(id)).thenApply(values -> values.get(id));
+    }
+
+    /**
+     * Returns {@code value-id}
+     * <p>
+     * The batch is dispatched 200ms after its first item was added.
+     */
+    @Batch(maxSize = 100, maxDelay = 200, batchMethod = "lookupAll")
+    public CompletionStage<String> lookupSoon(Integer id) {
+        return lookupAll(Collections.singletonList(id)).thenApply(values -> values.get(id));
+    }
+
+    /**
+     * Records the batch and returns {@code value-id} for each non-negative id
+     */
+    public CompletionStage<Map<Integer, String>> lookupAll(List<Integer> ids) {
+        batches.add(new ArrayList<>(ids));
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer id : ids) {
+            if (id >= 0) {
+                values.put(id, "value-" + id);
+            }
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
+    public CompletionStage<String> lookupFallback(Integer id) {
+        return CompletableFuture.completedFuture("fallback-" + id);
+    }
+
+    /**
+     * Returns {@code value-id}
+     * <p>
+     * The batch is only dispatched once it holds two items.
+     */
+    @Batch(maxSize = 2, maxDelay = 60000, batchMethod = "flakyLookupAll")
+    public CompletionStage<String> flakyLookup(Integer id) {
+        return flakyLookupAll(Collections.singletonList(id)).thenApply(values -> values.get(id));
+    }
+
+    /**
+     * Fails with a {@link TestException} on the first attempt and behaves like {@link #lookupAll(List)} afterwards
+     */
+    @Asynchronous
+    @Retry(maxRetries = 1)
+    public CompletionStage<Map<Integer, String>> flakyLookupAll(List<Integer> ids) {
+        if (flakyAttempts.incrementAndGet() == 1) {
+            batches.add(new ArrayList<>(ids));
+            CompletableFuture<Map<Integer, String>> result = new CompletableFuture<>();
+            result.completeExceptionally(new TestException());
+            return result;
+        }
+        return lookupAll(ids);
+    }
+
+    public void reset() {
+        batches.clear();
+        flakyAttempts.set(0);
+    }
+
+    public List<List<Integer>> getBatches() {
+        return batches;
+    }
+
+    public int getFlakyAttempts() {
+        return flakyAttempts.get();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead;
+
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadGlobalLimitBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that {@code mp.fault.tolerance.bulkhead.global.value} limits all bulkheads in the application together
+ */
+public class BulkheadGlobalLimitTest extends Arquillian {
+
+    @Inject
+    private BulkheadGlobalLimitBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBulkheadGlobalLimitTest.jar")
+                .addClass(BulkheadGlobalLimitBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(new StringAsset("mp.fault.tolerance.bulkhead.global.value=3"),
+                        "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftBulkheadGlobalLimitTest.war").addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testGlobalLimit() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA1 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskA2 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskB1 = taskManager.runBarrierTask(bean::serviceB);
+            taskA1.assertAwaits();
+            taskA2.assertAwaits();
+            taskB1.assertAwaits();
+
+            // Both methods have capacity, but the global limit is reached
+            BarrierTask<?> taskA3 = taskManager.runBarrierTask(bean::serviceA);
+            taskA3.assertThrows(BulkheadException.class);
+            BarrierTask<?> taskB2 = taskManager.runBarrierTask(bean::serviceB);
+            taskB2.assertThrows(BulkheadException.class);
+
+            taskA1.openBarrier();
+            taskA1.assertSuccess();
+
+            BarrierTask<?> taskB3 = taskManager.runBarrierTask(bean::serviceB);
+            taskB3.assertAwaits();
+        }
+    }
+
+}
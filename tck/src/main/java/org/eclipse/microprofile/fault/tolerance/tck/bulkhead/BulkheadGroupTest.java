@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead;
+
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadGroupSemaphoreBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Tests for bulkheads which belong to a bulkhead group
+ */
+public class BulkheadGroupTest extends Arquillian {
+
+    @Inject
+    private BulkheadGroupSemaphoreBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBulkheadGroupTest.jar")
+                .addClass(BulkheadGroupSemaphoreBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(
+                        new StringAsset("mp.fault.tolerance.bulkhead.group." + BulkheadGroupSemaphoreBean.GROUP
+                                + ".value=3"),
+                        "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftBulkheadGroupTest.war").addAsLibrary(testJar);
+    }
+
+    /**
+     * Test that a call is rejected when its group is full, even though its method bulkhead has capacity
+     */
+    @Test
+    public void testGroupLimit() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA1 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskA2 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskB1 = taskManager.runBarrierTask(bean::serviceB);
+            taskA1.assertAwaits();
+            taskA2.assertAwaits();
+            taskB1.assertAwaits();
+
+            // serviceB has capacity for one more call, but the group is full
+            BarrierTask<?> taskB2 = taskManager.runBarrierTask(bean::serviceB);
+            taskB2.assertThrows(BulkheadException.class);
+
+            // Methods outside the group are not affected
+            BarrierTask<?> taskC = taskManager.runBarrierTask(bean::serviceC);
+            taskC.assertAwaits();
+        }
+    }
+
+    /**
+     * Test that a call rejected by the group does not keep holding a permit of its method bulkhead
+     */
+    @Test
+    public void testRejectedCallReleasesPermits() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA1 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskA2 = taskManager.runBarrierTask(bean::serviceA);
+            BarrierTask<?> taskB1 = taskManager.runBarrierTask(bean::serviceB);
+            taskA1.assertAwaits();
+            taskA2.assertAwaits();
+            taskB1.assertAwaits();
+
+            BarrierTask<?> taskB2 = taskManager.runBarrierTask(bean::serviceB);
+            taskB2.assertThrows(BulkheadException.class);
+
+            taskA1.openBarrier();
+            taskA1.assertSuccess();
+
+            // serviceB should have exactly one free permit, and the group should have one free permit
+            BarrierTask<?> taskB3 = taskManager.runBarrierTask(bean::serviceB);
+            taskB3.assertAwaits();
+
+            taskA2.openBarrier();
+            taskA2.assertSuccess();
+
+            // The group has a free permit, but serviceB is full
+            BarrierTask<?> taskB4 = taskManager.runBarrierTask(bean::serviceB);
+            taskB4.assertThrows(BulkheadException.class);
+        }
+    }
+
+}
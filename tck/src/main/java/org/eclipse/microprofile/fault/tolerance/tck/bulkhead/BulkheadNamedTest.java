@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead;
+
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadNamedServiceABean;
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadNamedServiceBBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Tests for named bulkheads, which are shared by methods on different beans
+ */
+public class BulkheadNamedTest extends Arquillian {
+
+    @Inject
+    private BulkheadNamedServiceABean beanA;
+
+    @Inject
+    private BulkheadNamedServiceBBean beanB;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBulkheadNamedTest.jar")
+                .addClasses(BulkheadNamedServiceABean.class, BulkheadNamedServiceBBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(
+                        new StringAsset("Bulkhead/" + BulkheadNamedServiceABean.CONFIGURED + "/value=1"),
+                        "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftBulkheadNamedTest.war").addAsLibrary(testJar);
+    }
+
+    /**
+     * Test that methods on different beans using the same name share a single bulkhead
+     */
+    @Test
+    public void testSharedBulkhead() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(beanA::shared);
+            BarrierTask<?> taskB = taskManager.runBarrierTask(beanB::shared);
+            taskA.assertAwaits();
+            taskB.assertAwaits();
+
+            // Each method has only one running call, but the shared bulkhead is full
+            BarrierTask<?> taskA2 = taskManager.runBarrierTask(beanA::shared);
+            taskA2.assertThrows(BulkheadException.class);
+            BarrierTask<?> taskB2 = taskManager.runBarrierTask(beanB::shared);
+            taskB2.assertThrows(BulkheadException.class);
+
+            taskA.openBarrier();
+            taskA.assertSuccess();
+
+            BarrierTask<?> taskB3 = taskManager.runBarrierTask(beanB::shared);
+            taskB3.assertAwaits();
+        }
+    }
+
+    /**
+     * Test that {@code Bulkhead/<name>/value} configures the named bulkhead for all methods which use it
+     */
+    @Test
+    public void testConfiguredByName() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(beanA::configured);
+            taskA.assertAwaits();
+
+            // Annotation says 5, but config says 1
+            BarrierTask<?> taskB = taskManager.runBarrierTask(beanB::configured);
+            taskB.assertThrows(BulkheadException.class);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.Arrays;
+
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadMaxWaitSemaphoreBean;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Tests for synchronous bulkheads which allow calls to wait for capacity using {@code maxWait}
+ */
+public class BulkheadSynchMaxWaitTest extends Arquillian {
+
+    @Inject
+    private BulkheadMaxWaitSemaphoreBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(BulkheadMaxWaitSemaphoreBean.class, "longWait")
+                .autoscaleMethod(BulkheadMaxWaitSemaphoreBean.class, "shortWait")
+                .autoscaleMethod(BulkheadMaxWaitSemaphoreBean.class, "ordered");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBulkheadSynchMaxWaitTest.jar")
+                .addClass(BulkheadMaxWaitSemaphoreBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftBulkheadSynchMaxWaitTest.war").addAsLibrary(testJar);
+    }
+
+    /**
+     * Test that a call which arrives when the bulkhead is full waits and then runs when a running call completes
+     */
+    @Test
+    public void testWaitingCallRuns() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::longWait);
+            BarrierTask<?> taskB = taskManager.runBarrierTask(bean::longWait);
+            taskA.assertAwaits();
+            taskB.assertAwaits();
+
+            // Bulkhead is full, taskC should wait rather than be rejected
+            BarrierTask<?> taskC = taskManager.runBarrierTask(bean::longWait);
+            taskC.assertNotAwaiting();
+            taskC.assertNotCompleting();
+
+            taskA.openBarrier();
+            taskA.assertSuccess();
+
+            taskC.assertAwaits();
+            taskC.openBarrier();
+            taskC.assertSuccess();
+        }
+    }
+
+    /**
+     * Test that a call is rejected without waiting when {@code waitingTaskQueue} calls are already waiting
+     */
+    @Test
+    public void testWaitingQueueFull() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::longWait);
+            BarrierTask<?> taskB = taskManager.runBarrierTask(bean::longWait);
+            taskA.assertAwaits();
+            taskB.assertAwaits();
+
+            BarrierTask<?> taskC = taskManager.runBarrierTask(bean::longWait);
+            BarrierTask<?> taskD = taskManager.runBarrierTask(bean::longWait);
+            AsyncTaskManager.assertAllNotAwaiting(Arrays.asList(taskC, taskD));
+
+            // Two running, two waiting, next call should be rejected
+            BarrierTask<?> taskE = taskManager.runBarrierTask(bean::longWait);
+            taskE.assertThrows(BulkheadException.class);
+
+            // Waiting tasks should still be able to run
+            taskA.openBarrier();
+            taskB.openBarrier();
+            taskC.assertAwaits();
+            taskD.assertAwaits();
+        }
+    }
+
+    /**
+     * Test that a waiting call is rejected once {@code maxWait} has elapsed
+     */
+    @Test
+    public void testMaxWaitElapses() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::shortWait);
+            BarrierTask<?> taskB = taskManager.runBarrierTask(bean::shortWait);
+            taskA.assertAwaits();
+            taskB.assertAwaits();
+
+            // maxWait = 1000ms, task should not complete for the first 500ms
+            BarrierTask<?> taskC = taskManager.runBarrierTask(bean::shortWait);
+            taskC.assertNotCompleting();
+            taskC.assertThrows(BulkheadException.class);
+        }
+    }
+
+    /**
+     * Test that waiting calls are admitted in the order in which they started waiting
+     */
+    @Test
+    public void testWaitingCallsRunInOrder() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(barrier -> bean.ordered("A", barrier));
+            taskA.assertAwaits();
+
+            // assertNotAwaiting gives each task time to start waiting for the bulkhead before the next one is
+            // submitted
+            BarrierTask<?> taskB = taskManager.runBarrierTask(barrier -> bean.ordered("B", barrier));
+            taskB.assertNotAwaiting();
+            BarrierTask<?> taskC = taskManager.runBarrierTask(barrier -> bean.ordered("C", barrier));
+            taskC.assertNotAwaiting();
+            BarrierTask<?> taskD = taskManager.runBarrierTask(barrier -> bean.ordered("D", barrier));
+            taskD.assertNotAwaiting();
+
+            taskA.openBarrier();
+            taskB.assertAwaits();
+            taskB.openBarrier();
+            taskC.assertAwaits();
+            taskC.openBarrier();
+            taskD.assertAwaits();
+
+            assertThat("order in which the calls started running", bean.getOrderedStarts(),
+                    contains("A", "B", "C", "D"));
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead;
+
+import java.util.Arrays;
+
+import org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver.BulkheadWeightedSemaphoreBean;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Tests for bulkheads where calls take more than one permit, using {@code permits} or {@code permitsExtractor}
+ */
+public class BulkheadWeightedPermitsTest extends Arquillian {
+
+    @Inject
+    private BulkheadWeightedSemaphoreBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(BulkheadWeightedSemaphoreBean.class, "extractedWithWait");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftBulkheadWeightedPermitsTest.jar")
+                .addClasses(BulkheadWeightedSemaphoreBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftBulkheadWeightedPermitsTest.war").addAsLibrary(testJar);
+    }
+
+    /**
+     * Test that each call takes the number of permits set by {@code permits}
+     */
+    @Test
+    public void testConstantPermits() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::constant);
+            BarrierTask<?> taskB = taskManager.runBarrierTask(bean::constant);
+            taskA.assertAwaits();
+            taskB.assertAwaits();
+
+            // 4 permits in use by two calls, third call should be rejected
+            BarrierTask<?> taskC = taskManager.runBarrierTask(bean::constant);
+            taskC.assertThrows(BulkheadException.class);
+        }
+    }
+
+    /**
+     * Test that each call takes the number of permits computed by {@code permitsExtractor}
+     */
+    @Test
+    public void testExtractedPermits() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(b -> bean.extracted(3, b));
+            taskA.assertAwaits();
+
+            // 3 of 4 permits in use, a call taking 2 permits should be rejected
+            BarrierTask<?> taskB = taskManager.runBarrierTask(b -> bean.extracted(2, b));
+            taskB.assertThrows(BulkheadException.class);
+
+            // but a call taking 1 permit should run
+            BarrierTask<?> taskC = taskManager.runBarrierTask(b -> bean.extracted(1, b));
+            taskC.assertAwaits();
+        }
+    }
+
+    /**
+     * Test that the number of permits computed by {@code permitsExtractor} is limited to between 1 and
+     * {@code value}
+     */
+    @Test
+    public void testExtractedPermitsLimited() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            // A call taking more permits than the bulkhead has takes all of them
+            BarrierTask<?> taskA = taskManager.runBarrierTask(b -> bean.extracted(10, b));
+            taskA.assertAwaits();
+
+            // A call taking 0 permits takes 1 permit
+            BarrierTask<?> taskB = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            taskB.assertThrows(BulkheadException.class);
+
+            taskA.openBarrier();
+            taskA.assertSuccess();
+
+            BarrierTask<?> taskC = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            BarrierTask<?> taskD = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            BarrierTask<?> taskE = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            BarrierTask<?> taskF = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            taskC.assertAwaits();
+            taskD.assertAwaits();
+            taskE.assertAwaits();
+            taskF.assertAwaits();
+
+            BarrierTask<?> taskG = taskManager.runBarrierTask(b -> bean.extracted(0, b));
+            taskG.assertThrows(BulkheadException.class);
+        }
+    }
+
+    /**
+     * Test that a waiting call which takes many permits is not overtaken by calls which take fewer permits
+     */
+    @Test
+    public void testHeavyCallNotStarved() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> lightA = taskManager.runBarrierTask(b -> bean.extractedWithWait(1, b));
+            BarrierTask<?> lightB = taskManager.runBarrierTask(b -> bean.extractedWithWait(1, b));
+            BarrierTask<?> lightC = taskManager.runBarrierTask(b -> bean.extractedWithWait(1, b));
+            lightA.assertAwaits();
+            lightB.assertAwaits();
+            lightC.assertAwaits();
+
+            // 3 of 4 permits in use, heavy call has to wait
+            BarrierTask<?> heavy = taskManager.runBarrierTask(b -> bean.extractedWithWait(4, b));
+            heavy.assertNotAwaiting();
+
+            // 1 permit is free, but the light call must wait behind the heavy call
+            BarrierTask<?> lightD = taskManager.runBarrierTask(b -> bean.extractedWithWait(1, b));
+            lightD.assertNotAwaiting();
+
+            lightA.openBarrier();
+            lightA.assertSuccess();
+            AsyncTaskManager.assertAllNotAwaiting(Arrays.asList(heavy, lightD));
+
+            lightB.openBarrier();
+            lightC.openBarrier();
+            heavy.assertAwaits();
+            lightD.assertNotAwaiting();
+
+            heavy.openBarrier();
+            lightD.assertAwaits();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Semaphore bulkheads which belong to the same bulkhead group
+ * <p>
+ * The limit of the group is set to 3 by the test deployment.
+ */
+@ApplicationScoped
+public class BulkheadGroupSemaphoreBean {
+
+    public static final String GROUP = "tck-group";
+
+    @Bulkhead(value = 2, group = GROUP)
+    public void serviceA(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 2, group = GROUP)
+    public void serviceB(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 2)
+    public void serviceC(Barrier barrier) {
+        barrier.await();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Semaphore bulkheads which allow calls to wait for capacity
+ */
+@ApplicationScoped
+public class BulkheadMaxWaitSemaphoreBean {
+
+    private final List<String> orderedStarts = new CopyOnWriteArrayList<>();
+
+    @Bulkhead(value = 2, waitingTaskQueue = 2, maxWait = 20000)
+    public void longWait(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 2, waitingTaskQueue = 2, maxWait = 1000)
+    public void shortWait(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 1, waitingTaskQueue = 3, maxWait = 20000)
+    public void ordered(String name, Barrier barrier) {
+        orderedStarts.add(name);
+        barrier.await();
+    }
+
+    /**
+     * @return the names passed to {@link #ordered(String, Barrier)}, in the order in which the calls started running
+     */
+    public List<String> getOrderedStarts() {
+        return orderedStarts;
+    }
+
+}
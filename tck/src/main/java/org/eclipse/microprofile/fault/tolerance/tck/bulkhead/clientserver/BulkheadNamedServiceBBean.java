@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Uses the same named bulkheads as {@link BulkheadNamedServiceABean}
+ */
+@ApplicationScoped
+public class BulkheadNamedServiceBBean {
+
+    @Bulkhead(value = 2, name = BulkheadNamedServiceABean.SHARED)
+    public void shared(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 5, name = BulkheadNamedServiceABean.CONFIGURED)
+    public void configured(Barrier barrier) {
+        barrier.await();
+    }
+
+}
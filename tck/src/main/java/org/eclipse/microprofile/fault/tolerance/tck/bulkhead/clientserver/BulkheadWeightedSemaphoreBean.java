@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.bulkhead.clientserver;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.FirstParameterPermitsExtractor;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Semaphore bulkheads where calls take more than one permit
+ */
+@ApplicationScoped
+public class BulkheadWeightedSemaphoreBean {
+
+    @Bulkhead(value = 4, permits = 2)
+    public void constant(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 4, permitsExtractor = FirstParameterPermitsExtractor.class)
+    public void extracted(int permits, Barrier barrier) {
+        barrier.await();
+    }
+
+    @Bulkhead(value = 4, waitingTaskQueue = 4, maxWait = 20000,
+            permitsExtractor = FirstParameterPermitsExtractor.class)
+    public void extractedWithWait(int permits, Barrier barrier) {
+        barrier.await();
+    }
+
+}
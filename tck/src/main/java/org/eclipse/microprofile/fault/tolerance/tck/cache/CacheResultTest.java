@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.cache;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.expectThrows;
+
+import org.eclipse.microprofile.fault.tolerance.tck.cache.clientserver.CacheResultBean;
+import org.eclipse.microprofile.fault.tolerance.tck.cache.clientserver.FirstParameterKey;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test the {@code @CacheResult} annotation
+ */
+public class CacheResultTest extends Arquillian {
+
+    @Inject
+    private CacheResultBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(CacheResultBean.class, "lookup")
+                .autoscaleMethod(CacheResultBean.class, "lookupIgnoringRequestId")
+                .autoscaleMethod(CacheResultBean.class, "lookupStaleIfError")
+                .autoscaleMethod(CacheResultBean.class, "lookupWithFallback")
+                .autoscaleMethod(CacheResultBean.class, "lookupWithRetry")
+                .autoscaleMethod(CacheResultBean.class, "lookupSoftTimeout");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftCacheResult.jar")
+                .addClasses(CacheResultBean.class, FirstParameterKey.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftCacheResult.war")
+                .addAsLibrary(testJar);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        bean.setFailing(false);
+        bean.setSlow(false);
+    }
+
+    @Test
+    public void testCachedUntilExpiry() throws InterruptedException {
+        assertThat(bean.lookup("a"), is("a-1"));
+        assertThat(bean.lookup("a"), is("a-1"));
+        assertThat(bean.lookup("b"), is("b-2"));
+
+        // ttl is 1000ms
+        Thread.sleep(getConfig().getTimeoutInMillis(1500));
+
+        assertThat(bean.lookup("a"), is("a-3"));
+        assertThat(bean.lookup("a"), is("a-3"));
+    }
+
+    @Test
+    public void testKeyExtractor() {
+        assertThat(bean.lookupIgnoringRequestId("a", "request1"), is("a-1"));
+        assertThat(bean.lookupIgnoringRequestId("a", "request2"), is("a-1"));
+        assertThat(bean.lookupIgnoringRequestId("b", "request1"), is("b-2"));
+    }
+
+    @Test
+    public void testStaleIfError() throws InterruptedException {
+        assertThat(bean.lookupStaleIfError("a"), is("a-1"));
+
+        // ttl is 500ms
+        Thread.sleep(getConfig().getTimeoutInMillis(1000));
+        bean.setFailing(true);
+
+        // The method is executed because the result has expired, it fails and the expired result is returned
+        assertThat(bean.lookupStaleIfError("a"), is("a-1"));
+        assertThat("executions", bean.getStaleIfErrorExecutions(), is(2));
+
+        // There is no expired result for this key
+        expectThrows(TestException.class, () -> bean.lookupStaleIfError("b"));
+    }
+
+    @Test
+    public void testFallbackResultNotCached() {
+        bean.setFailing(true);
+        assertThat(bean.lookupWithFallback("a"), is("fallback"));
+
+        bean.setFailing(false);
+        assertThat(bean.lookupWithFallback("a"), is("a-2"));
+        assertThat(bean.lookupWithFallback("a"), is("a-2"));
+    }
+
+    @Test
+    public void testCachedResultSkipsRetry() {
+        // The first attempt fails and the retry succeeds
+        assertThat(bean.lookupWithRetry("a"), is("a-2"));
+        assertThat(bean.lookupWithRetry("a"), is("a-2"));
+        assertThat("executions", bean.getRetryExecutions(), is(2));
+    }
+
+    /**
+     * With a soft timeout, the cache holds the results which complete in the background, and the stale result is the
+     * expired cached result
+     */
+    @Test
+    public void testSoftTimeoutUsesCache() throws Exception {
+        bean.setSlow(true);
+        // Times out, there is no result yet
+        assertThat(bean.lookupSoftTimeout("a").toCompletableFuture().get(), is("none"));
+
+        // The execution which timed out completes in the background and its result is cached
+        await("execution completed").until(() -> bean.getSoftTimeoutCompleted() == 1);
+        bean.setSlow(false);
+        assertThat(bean.lookupSoftTimeout("a").toCompletableFuture().get(), is("a-1"));
+        assertThat("executions", bean.getSoftTimeoutExecutions(), is(1));
+
+        // ttl is 1000ms
+        Thread.sleep(getConfig().getTimeoutInMillis(1500));
+        bean.setSlow(true);
+
+        // Times out, the stale result is the expired cached result
+        assertThat(bean.lookupSoftTimeout("a").toCompletableFuture().get(), is("stale:a-1"));
+        assertThat("executions", bean.getSoftTimeoutExecutions(), is(2));
+    }
+
+}
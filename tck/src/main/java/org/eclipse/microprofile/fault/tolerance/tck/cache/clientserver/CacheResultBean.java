@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.cache.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.CacheResult;
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Methods with cached results. Each method returns {@code key-N}, where N is the number of times the method has been
+ * executed.
+ */
+@ApplicationScoped
+public class CacheResultBean {
+
+    @Inject
+    private ExecutionContext context;
+
+    private final AtomicInteger lookupExecutions = new AtomicInteger(0);
+    private final AtomicInteger ignoringRequestIdExecutions = new AtomicInteger(0);
+    private final AtomicInteger staleIfErrorExecutions = new AtomicInteger(0);
+    private final AtomicInteger fallbackExecutions = new AtomicInteger(0);
+    private final AtomicInteger retryExecutions = new AtomicInteger(0);
+    private final AtomicInteger softTimeoutExecutions = new AtomicInteger(0);
+    private final AtomicInteger softTimeoutCompleted = new AtomicInteger(0);
+    private final AtomicBoolean failing = new AtomicBoolean(false);
+    private final AtomicBoolean slow = new AtomicBoolean(false);
+
+    @CacheResult(ttl = 1000)
+    public String lookup(String key) {
+        return key + "-" + lookupExecutions.incrementAndGet();
+    }
+
+    @CacheResult(ttl = 60000, keyExtractor = FirstParameterKey.class)
+    public String lookupIgnoringRequestId(String key, String requestId) {
+        return key + "-" + ignoringRequestIdExecutions.incrementAndGet();
+    }
+
+    @CacheResult(ttl = 500, staleIfError = 60000)
+    public String lookupStaleIfError(String key) {
+        int execution = staleIfErrorExecutions.incrementAndGet();
+        if (failing.get()) {
+            throw new TestException();
+        }
+        return key + "-" + execution;
+    }
+
+    @CacheResult(ttl = 60000)
+    @Fallback(fallbackMethod = "fallback")
+    public String lookupWithFallback(String key) {
+        int execution = fallbackExecutions.incrementAndGet();
+        if (failing.get()) {
+            throw new TestException();
+        }
+        return key + "-" + execution;
+    }
+
+    public String fallback(String key) {
+        return "fallback";
+    }
+
+    /**
+     * Fails on the first attempt of each invocation which executes the method
+     */
+    @CacheResult(ttl = 60000)
+    @Retry(maxRetries = 2, delay = 0, jitter = 0)
+    public String lookupWithRetry(String key) {
+        int execution = retryExecutions.incrementAndGet();
+        if (execution % 2 == 1) {
+            throw new TestException();
+        }
+        return key + "-" + execution;
+    }
+
+    /**
+     * Takes 1000ms while slow, so that it times out and completes in the background
+     */
+    @Asynchronous
+    @Timeout(value = 500, soft = true)
+    @CacheResult(ttl = 1000)
+    @Fallback(fallbackMethod = "softTimeoutFallback")
+    public CompletionStage<String> lookupSoftTimeout(String key) {
+        int execution = softTimeoutExecutions.incrementAndGet();
+        if (slow.get()) {
+            try {
+                Thread.sleep(TCKConfig.getConfig().getTimeoutInMillis(1000));
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Test was interrupted", e);
+            }
+        }
+        softTimeoutCompleted.incrementAndGet();
+        return CompletableFuture.completedFuture(key + "-" + execution);
+    }
+
+    public CompletionStage<String> softTimeoutFallback(String key) {
+        return CompletableFuture.completedFuture(context.getStaleResult(String.class)
+                .map(result -> "stale:" + result)
+                .orElse("none"));
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing.set(failing);
+    }
+
+    public int getStaleIfErrorExecutions() {
+        return staleIfErrorExecutions.get();
+    }
+
+    public int getRetryExecutions() {
+        return retryExecutions.get();
+    }
+
+    public void setSlow(boolean slow) {
+        this.slow.set(slow);
+    }
+
+    public int getSoftTimeoutExecutions() {
+        return softTimeoutExecutions.get();
+    }
+
+    public int getSoftTimeoutCompleted() {
+        return softTimeoutCompleted.get();
+    }
+
+}
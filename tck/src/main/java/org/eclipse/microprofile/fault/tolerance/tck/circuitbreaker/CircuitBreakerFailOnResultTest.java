@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.circuitbreaker;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.fault.tolerance.tck.circuitbreaker.clientserver.CircuitBreakerClientFailOnResult;
+import org.eclipse.microprofile.fault.tolerance.tck.result.NegativeResultPredicate;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test {@code CircuitBreaker.failOnResult()}
+ */
+public class CircuitBreakerFailOnResultTest extends Arquillian {
+
+    @Inject
+    private CircuitBreakerClientFailOnResult client;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftCircuitBreakerFailOnResult.jar")
+                .addClasses(CircuitBreakerClientFailOnResult.class, NegativeResultPredicate.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftCircuitBreakerFailOnResult.war")
+                .addAsLibrary(testJar);
+    }
+
+    /**
+     * Results matching the predicate are returned to the caller, but are counted as failures and open the circuit
+     */
+    @Test
+    public void testFailOnResultOpensCircuit() {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(client.serviceA(-1), -1, "Result of serviceA");
+        }
+
+        assertThrows(CircuitBreakerOpenException.class, () -> client.serviceA(1));
+    }
+
+    /**
+     * Results not matching the predicate are counted as successes
+     */
+    @Test
+    public void testOtherResultsAreSuccesses() {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(client.serviceB(1), 1, "Result of serviceB");
+        }
+
+        assertEquals(client.serviceB(1), 1, "Result of serviceB");
+    }
+
+    /**
+     * The predicate is applied to the value the CompletionStage completes with
+     */
+    @Test
+    public void testFailOnCompletionStageResult()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(client.serviceC(-1).toCompletableFuture().get(1, TimeUnit.MINUTES).intValue(), -1,
+                    "Result of serviceC");
+        }
+
+        try {
+            client.serviceC(1).toCompletableFuture().get(1, TimeUnit.MINUTES);
+            fail("ExecutionException not thrown");
+        } catch (ExecutionException expected) {
+            assertThat("Circuit should be open", expected.getCause(), instanceOf(CircuitBreakerOpenException.class));
+        }
+    }
+
+}
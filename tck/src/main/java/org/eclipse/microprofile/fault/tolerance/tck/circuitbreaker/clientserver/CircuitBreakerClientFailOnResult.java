@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.circuitbreaker.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.fault.tolerance.tck.result.NegativeResultPredicate;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A client to demonstrate counting results as failures using {@code failOnResult}
+ * <p>
+ * A negative result reports an error.
+ */
+@ApplicationScoped
+public class CircuitBreakerClientFailOnResult {
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.75, delay = 50000,
+            failOnResult = NegativeResultPredicate.class)
+    public int serviceA(int result) {
+        return result;
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.75, delay = 50000,
+            failOnResult = NegativeResultPredicate.class)
+    public int serviceB(int result) {
+        return result;
+    }
+
+    @Asynchronous
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.75, delay = 50000,
+            failOnResult = NegativeResultPredicate.class)
+    public CompletionStage<Integer> serviceC(int result) {
+        return CompletableFuture.completedFuture(result);
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.coalesce;
+
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.coalesce.clientserver.CoalesceBean;
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test the {@code @Coalesce} annotation
+ */
+public class CoalesceTest extends Arquillian {
+
+    private static final int CALLERS = 10;
+
+    @Inject
+    private CoalesceBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(CoalesceBean.class, "fetch")
+                .autoscaleMethod(CoalesceBean.class, "fetchFailing");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftCoalesce.jar")
+                .addClass(CoalesceBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftCoalesce.war")
+                .addAsLibrary(testJar);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        bean.reset();
+    }
+
+    @Test
+    public void testConcurrentCallsShareExecution() throws Exception {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            Barrier barrierA = taskManager.newBarrier();
+            Barrier barrierB = taskManager.newBarrier();
+
+            List<CompletionStage<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(bean.fetch("a", barrierA));
+            }
+            CompletionStage<String> other = bean.fetch("b", barrierB);
+
+            barrierA.assertAwaits();
+            barrierB.assertAwaits();
+            assertThat("executions", bean.getFetchExecutions(), is(2));
+            assertThat("executions waiting for barrier A", barrierA.countWaiting(), is(1));
+
+            barrierA.open();
+            barrierB.open();
+
+            String first = get(results.get(0));
+            assertThat(first, startsWith("a-"));
+            for (CompletionStage<String> result : results) {
+                // Would be a BulkheadException if the invocations were not coalesced
+                assertThat(get(result), is(first));
+            }
+            assertThat(get(other), startsWith("b-"));
+            assertThat("executions", bean.getFetchExecutions(), is(2));
+        }
+    }
+
+    @Test
+    public void testSequentialCallsNotCoalesced() throws Exception {
+        Barrier barrier = new Barrier();
+        barrier.open();
+
+        assertThat(get(bean.fetch("a", barrier)), is("a-1"));
+        assertThat(get(bean.fetch("a", barrier)), is("a-2"));
+    }
+
+    @Test
+    public void testSharedExecutionCountsOnceForCircuitBreaker() throws Exception {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            Barrier barrier = taskManager.newBarrier();
+
+            List<CompletionStage<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(bean.fetchFailing("a", barrier));
+            }
+
+            barrier.assertAwaits();
+            barrier.open();
+
+            for (CompletionStage<String> result : results) {
+                expectTestException(result);
+            }
+            assertThat("executions", bean.getFailingExecutions(), is(1));
+
+            // The circuit breaker has only recorded one failure out of the two needed to open, so the method is
+            // executed
+            Barrier openBarrier = new Barrier();
+            openBarrier.open();
+            expectTestException(bean.fetchFailing("a", openBarrier));
+            assertThat("executions", bean.getFailingExecutions(), is(2));
+        }
+    }
+
+    private String get(CompletionStage<String> stage) throws Exception {
+        return stage.toCompletableFuture().get(getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+    }
+
+    private void expectTestException(CompletionStage<String> stage) throws Exception {
+        CompletableFuture<String> future = stage.toCompletableFuture();
+        try {
+            future.get(getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+            fail("Expected a TestException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TestException.class));
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.coalesce.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Coalesce;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Methods with coalesced invocations, which wait on the given barrier before completing
+ * <p>
+ * The barrier is part of the key of the invocation, so invocations are only coalesced if they use the same barrier.
+ */
+@ApplicationScoped
+public class CoalesceBean {
+
+    private final AtomicInteger fetchExecutions = new AtomicInteger(0);
+    private final AtomicInteger failingExecutions = new AtomicInteger(0);
+
+    /**
+     * Returns {@code key-N}, where N is the number of the execution
+     * <p>
+     * The bulkhead would reject most concurrent invocations if they were not coalesced.
+     */
+    @Asynchronous
+    @Coalesce
+    @Bulkhead(value = 2, waitingTaskQueue = 1)
+    public CompletionStage<String> fetch(String key, Barrier barrier) {
+        int execution = fetchExecutions.incrementAndGet();
+        barrier.await();
+        return CompletableFuture.completedFuture(key + "-" + execution);
+    }
+
+    /**
+     * Always fails with a {@link TestException}
+     * <p>
+     * The circuit breaker opens after two failed calls.
+     */
+    @Asynchronous
+    @Coalesce
+    @CircuitBreaker(requestVolumeThreshold = 2, failureRatio = 1.0, delay = 60000)
+    public CompletionStage<String> fetchFailing(String key, Barrier barrier) {
+        failingExecutions.incrementAndGet();
+        barrier.await();
+        throw new TestException();
+    }
+
+    public void reset() {
+        fetchExecutions.set(0);
+        failingExecutions.set(0);
+    }
+
+    public int getFetchExecutions() {
+        return fetchExecutions.get();
+    }
+
+    public int getFailingExecutions() {
+        return failingExecutions.get();
+    }
+
+}
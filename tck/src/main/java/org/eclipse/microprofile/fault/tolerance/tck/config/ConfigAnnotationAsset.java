@@ -36,6 +36,9 @@ import java.util.Properties;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.Batch;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CacheResult;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
@@ -66,7 +69,13 @@ public class ConfigAnnotationAsset implements Asset {
      * <li>Retry.delay</li>
      * <li>Retry.jitter</li>
      * <li>Timeout.value</li>
+     * <li>Timeout.minRemaining</li>
+     * <li>Timeout.minValue</li>
      * <li>CircuitBreaker.delay</li>
+     * <li>Bulkhead.maxWait</li>
+     * <li>CacheResult.ttl</li>
+     * <li>CacheResult.staleIfError</li>
+     * <li>Batch.maxDelay</li>
      * </ul>
      *
      * @return {@code this}
@@ -101,7 +110,13 @@ public class ConfigAnnotationAsset implements Asset {
      * <li>Retry.delay</li>
      * <li>Retry.jitter</li>
      * <li>Timeout.value</li>
+     * <li>Timeout.minRemaining</li>
+     * <li>Timeout.minValue</li>
      * <li>CircuitBreaker.delay</li>
+     * <li>Bulkhead.maxWait</li>
+     * <li>CacheResult.ttl</li>
+     * <li>CacheResult.staleIfError</li>
+     * <li>Batch.maxDelay</li>
      * </ul>
      *
      * @return {@code this}
@@ -154,6 +169,18 @@ public class ConfigAnnotationAsset implements Asset {
             props.put(keyFor(clazz, methodName, Timeout.class, "value"),
                     config.getTimeoutInStr(maxDuration.toMillis()));
             props.put(keyFor(clazz, methodName, Timeout.class, "unit"), ChronoUnit.MILLIS.name());
+
+            if (timeout.minRemaining() != 0) {
+                Duration minRemaining = Duration.of(timeout.minRemaining(), timeout.unit());
+                props.put(keyFor(clazz, methodName, Timeout.class, "minRemaining"),
+                        config.getTimeoutInStr(minRemaining.toMillis()));
+            }
+
+            if (timeout.minValue() != 0) {
+                Duration minValue = Duration.of(timeout.minValue(), timeout.unit());
+                props.put(keyFor(clazz, methodName, Timeout.class, "minValue"),
+                        config.getTimeoutInStr(minValue.toMillis()));
+            }
         }
 
         CircuitBreaker cb = element.getAnnotation(CircuitBreaker.class);
@@ -163,6 +190,34 @@ public class ConfigAnnotationAsset implements Asset {
                     config.getTimeoutInStr(delay.toMillis()));
             props.put(keyFor(clazz, methodName, CircuitBreaker.class, "delayUnit"), ChronoUnit.MILLIS.name());
         }
+
+        Bulkhead bulkhead = element.getAnnotation(Bulkhead.class);
+        if (bulkhead != null && bulkhead.maxWait() != 0) {
+            Duration maxWait = Duration.of(bulkhead.maxWait(), bulkhead.maxWaitUnit());
+            props.put(keyFor(clazz, methodName, Bulkhead.class, "maxWait"),
+                    config.getTimeoutInStr(maxWait.toMillis()));
+            props.put(keyFor(clazz, methodName, Bulkhead.class, "maxWaitUnit"), ChronoUnit.MILLIS.name());
+        }
+
+        CacheResult cache = element.getAnnotation(CacheResult.class);
+        if (cache != null) {
+            Duration ttl = Duration.of(cache.ttl(), cache.ttlUnit());
+            props.put(keyFor(clazz, methodName, CacheResult.class, "ttl"), config.getTimeoutInStr(ttl.toMillis()));
+            props.put(keyFor(clazz, methodName, CacheResult.class, "ttlUnit"), ChronoUnit.MILLIS.name());
+
+            if (cache.staleIfError() != 0) {
+                Duration staleIfError = Duration.of(cache.staleIfError(), cache.ttlUnit());
+                props.put(keyFor(clazz, methodName, CacheResult.class, "staleIfError"),
+                        config.getTimeoutInStr(staleIfError.toMillis()));
+            }
+        }
+
+        Batch batch = element.getAnnotation(Batch.class);
+        if (batch != null && batch.maxDelay() != 0) {
+            Duration maxDelay = Duration.of(batch.maxDelay(), batch.maxDelayUnit());
+            props.put(keyFor(clazz, methodName, Batch.class, "maxDelay"), config.getTimeoutInStr(maxDelay.toMillis()));
+            props.put(keyFor(clazz, methodName, Batch.class, "maxDelayUnit"), ChronoUnit.MILLIS.name());
+        }
     }
 
     /**
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.deadline;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.testng.Assert.expectThrows;
+import static org.testng.Assert.fail;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.deadline.clientserver.DeadlineInnerBean;
+import org.eclipse.microprofile.fault.tolerance.tck.deadline.clientserver.DeadlineOuterBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that the deadline of a method annotated with {@code Timeout} is propagated to the methods it calls when
+ * {@code mp.fault.tolerance.deadline.propagation} is enabled
+ */
+public class DeadlinePropagationTest extends Arquillian {
+
+    @Inject
+    private DeadlineOuterBean outer;
+
+    @Inject
+    private DeadlineInnerBean inner;
+
+    @Deployment
+    public static WebArchive deploy() {
+        Properties props = new Properties();
+        props.put("mp.fault.tolerance.deadline.propagation", "true");
+
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(DeadlineOuterBean.class, "callSlow")
+                .autoscaleMethod(DeadlineOuterBean.class, "callRemaining")
+                .autoscaleMethod(DeadlineOuterBean.class, "callAfterDeadline")
+                .autoscaleMethod(DeadlineOuterBean.class, "callRetried")
+                .autoscaleMethod(DeadlineOuterBean.class, "callQueued")
+                .autoscaleMethod(DeadlineInnerBean.class, "slow")
+                .autoscaleMethod(DeadlineInnerBean.class, "remaining")
+                .autoscaleMethod(DeadlineInnerBean.class, "bulkhead")
+                .autoscaleMethod(DeadlineInnerBean.class, "retried")
+                .autoscaleMethod(DeadlineInnerBean.class, "queued")
+                .mergeProperties(props);
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftDeadlinePropagation.jar")
+                .addPackage(DeadlineOuterBean.class.getPackage())
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftDeadlinePropagation.war")
+                .addAsLibrary(testJar);
+    }
+
+    /**
+     * The asynchronous nested method times out together with its caller, instead of after its own timeout
+     */
+    @Test
+    public void testNestedAsynchronousTimesOut() throws InterruptedException {
+        expectThrows(TimeoutException.class, () -> outer.callSlow());
+
+        try {
+            outer.getSlowResult().toCompletableFuture().get(TCKConfig.getConfig().getTimeoutInMillis(1000),
+                    TimeUnit.MILLISECONDS);
+            fail("Nested method did not time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        } catch (java.util.concurrent.TimeoutException e) {
+            fail("Nested method did not time out with its caller");
+        }
+        await("nested method interrupted").until(inner::wasSlowInterrupted);
+    }
+
+    @Test
+    public void testRemainingVisibleInNestedMethod() {
+        Optional<Duration> remaining = outer.callRemaining();
+        assertThat("remaining time is present", remaining.isPresent(), is(true));
+        assertThat(remaining.get(), lessThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(500)));
+    }
+
+    @Test
+    public void testNoDeadlineOutsideGuardedMethod() {
+        assertThat(inner.remainingUnguarded(), is(Optional.empty()));
+    }
+
+    /**
+     * A nested method called after the deadline has passed fails immediately without being executed
+     */
+    @Test
+    public void testExpiredDeadlineRejectsNestedCall() {
+        expectThrows(TimeoutException.class, () -> outer.callAfterDeadline());
+
+        assertThat(outer.getExpiredFailure(), instanceOf(TimeoutException.class));
+        assertThat("nested method invocations", inner.getBulkheadInvocations(), is(0));
+    }
+
+    /**
+     * A nested method annotated with {@code Retry} stops retrying at the deadline and rethrows the last failure
+     */
+    @Test
+    public void testNestedRetryStopsAtDeadline() {
+        expectThrows(TimeoutException.class, () -> outer.callRetried());
+
+        assertThat(outer.getRetriedFailure(), instanceOf(TestException.class));
+        // Roughly 5 attempts fit in the deadline, 21 would be made without it
+        assertThat("nested method invocations", inner.getRetriedInvocations(), lessThanOrEqualTo(10));
+    }
+
+    /**
+     * A nested call waiting in a bulkhead queue is removed from the queue when the deadline passes
+     */
+    @Test
+    public void testQueuedNestedCallRemovedAtDeadline() throws InterruptedException {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runAsyncCsBarrierTask(inner::queued);
+            taskA.assertAwaits();
+
+            Barrier queuedBarrier = taskManager.newBarrier();
+            expectThrows(TimeoutException.class, () -> outer.callQueued(queuedBarrier));
+
+            try {
+                outer.getQueuedResult().toCompletableFuture().get(TCKConfig.getConfig().getTimeoutInMillis(1000),
+                        TimeUnit.MILLISECONDS);
+                fail("Queued nested method did not fail");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            } catch (java.util.concurrent.TimeoutException e) {
+                fail("Queued nested method did not fail when the deadline passed");
+            }
+
+            // The queue has room again, and the removed call is never started
+            BarrierTask<?> taskC = taskManager.runAsyncCsBarrierTask(inner::queued);
+            taskA.openBarrier();
+            taskA.assertSuccess();
+            taskC.assertAwaits();
+            queuedBarrier.assertNotAwaiting();
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.deadline.clientserver;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.DeadlineContext;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Methods called by {@link DeadlineOuterBean}, with their own, longer timeouts
+ */
+@ApplicationScoped
+public class DeadlineInnerBean {
+
+    @Inject
+    private DeadlineContext deadline;
+
+    private final AtomicBoolean slowInterrupted = new AtomicBoolean();
+    private final AtomicInteger bulkheadInvocations = new AtomicInteger();
+    private final AtomicInteger retriedInvocations = new AtomicInteger();
+
+    /**
+     * Sleeps for 1500ms, with a timeout of 2000ms
+     *
+     * @return a CompletionStage which completes when the sleep is over
+     */
+    @Asynchronous
+    @Timeout(2000)
+    public CompletionStage<Void> slow() {
+        try {
+            Thread.sleep(TCKConfig.getConfig().getTimeoutInMillis(1500));
+        } catch (InterruptedException e) {
+            slowInterrupted.set(true);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Timeout(2000)
+    public Optional<Duration> remaining() {
+        return deadline.getRemaining();
+    }
+
+    @Bulkhead(5)
+    public void bulkhead() {
+        bulkheadInvocations.incrementAndGet();
+    }
+
+    /**
+     * Always fails, would be retried for 2000ms without a deadline
+     */
+    @Retry(maxRetries = 20, delay = 100, jitter = 0, maxDuration = 20_000)
+    public void retried() {
+        retriedInvocations.incrementAndGet();
+        throw new TestException();
+    }
+
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 1)
+    public CompletionStage<Void> queued(Barrier barrier) {
+        barrier.await();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public Optional<Duration> remainingUnguarded() {
+        return deadline.getRemaining();
+    }
+
+    public boolean wasSlowInterrupted() {
+        return slowInterrupted.get();
+    }
+
+    public int getBulkheadInvocations() {
+        return bulkheadInvocations.get();
+    }
+
+    public int getRetriedInvocations() {
+        return retriedInvocations.get();
+    }
+
+}
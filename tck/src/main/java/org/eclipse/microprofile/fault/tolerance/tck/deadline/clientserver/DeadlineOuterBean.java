@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.deadline.clientserver;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Methods with a short timeout which call {@link DeadlineInnerBean}
+ */
+@ApplicationScoped
+public class DeadlineOuterBean {
+
+    @Inject
+    private DeadlineInnerBean inner;
+
+    private volatile CompletionStage<Void> slowResult;
+    private volatile Throwable expiredFailure;
+    private volatile CompletionStage<Void> queuedResult;
+    private volatile Throwable retriedFailure;
+
+    /**
+     * Starts {@link DeadlineInnerBean#slow()} and waits for it, times out after 500ms
+     */
+    @Timeout(500)
+    public void callSlow() throws InterruptedException {
+        slowResult = inner.slow();
+        try {
+            slowResult.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            // checked by the test
+        }
+    }
+
+    @Timeout(500)
+    public Optional<Duration> callRemaining() {
+        return inner.remaining();
+    }
+
+    /**
+     * Keeps running without checking for interruption until after its timeout of 300ms, then calls
+     * {@link DeadlineInnerBean#bulkhead()}
+     */
+    @Timeout(300)
+    public void callAfterDeadline() {
+        long end = System.nanoTime() + TCKConfig.getConfig().getTimeoutInDuration(600).toNanos();
+        while (System.nanoTime() < end) {
+            // busy wait, ignoring the interruption
+        }
+        try {
+            inner.bulkhead();
+        } catch (Throwable e) {
+            expiredFailure = e;
+        }
+    }
+
+    /**
+     * Calls {@link DeadlineInnerBean#retried()}, times out after 500ms
+     * <p>
+     * The thread is not interrupted, so that the nested method stops retrying because of the deadline rather than
+     * because of the interruption.
+     */
+    @Timeout(value = 500, interrupt = false)
+    public void callRetried() {
+        try {
+            inner.retried();
+        } catch (Throwable e) {
+            retriedFailure = e;
+        }
+    }
+
+    /**
+     * Calls {@link DeadlineInnerBean#queued(Barrier)} and waits for it, times out after 500ms
+     */
+    @Timeout(500)
+    public void callQueued(Barrier barrier) throws InterruptedException {
+        queuedResult = inner.queued(barrier);
+        try {
+            queuedResult.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            // checked by the test
+        }
+    }
+
+    public CompletionStage<Void> getSlowResult() {
+        return slowResult == null ? new CompletableFuture<>() : slowResult;
+    }
+
+    public Throwable getExpiredFailure() {
+        return expiredFailure;
+    }
+
+    public CompletionStage<Void> getQueuedResult() {
+        return queuedResult == null ? new CompletableFuture<>() : queuedResult;
+    }
+
+    public Throwable getRetriedFailure() {
+        return retriedFailure;
+    }
+
+}
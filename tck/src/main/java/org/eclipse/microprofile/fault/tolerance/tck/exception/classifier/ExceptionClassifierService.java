@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.exception.classifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Methods which throw a {@link StatusException} with the status passed as a parameter, or succeed if the status is
+ * {@code 200}
+ */
+@ApplicationScoped
+public class ExceptionClassifierService {
+
+    private final AtomicInteger retryUnavailableCounter = new AtomicInteger();
+    private final AtomicInteger retryBadRequestCounter = new AtomicInteger();
+
+    // retryOn includes StatusException, but it must not be used because the classifier is set
+    @Retry(maxRetries = 2, jitter = 0, retryOn = StatusException.class, classifier = UnavailableClassifier.class)
+    public String retryUnavailable(int status) throws StatusException {
+        retryUnavailableCounter.incrementAndGet();
+        return respond(status);
+    }
+
+    @Retry(maxRetries = 2, jitter = 0, retryOn = StatusException.class, classifier = UnavailableClassifier.class)
+    public String retryBadRequest(int status) throws StatusException {
+        retryBadRequestCounter.incrementAndGet();
+        return respond(status);
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 50000,
+            classifier = WeightedClassifier.class)
+    public String circuitBreakerHeavyFailure(int status) throws StatusException {
+        return respond(status);
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 50000,
+            classifier = WeightedClassifier.class)
+    public String circuitBreakerLightFailure(int status) throws StatusException {
+        return respond(status);
+    }
+
+    // skipOn includes StatusException, but it must not be used because the classifier is set
+    @Fallback(fallbackMethod = "fallbackResponse", skipOn = StatusException.class,
+            classifier = UnavailableClassifier.class)
+    public String fallbackUnavailable(int status) throws StatusException {
+        return respond(status);
+    }
+
+    public String fallbackResponse(int status) {
+        return "fallback";
+    }
+
+    public int getRetryUnavailableCounter() {
+        return retryUnavailableCounter.get();
+    }
+
+    public int getRetryBadRequestCounter() {
+        return retryBadRequestCounter.get();
+    }
+
+    private String respond(int status) throws StatusException {
+        if (status == 200) {
+            return "OK";
+        }
+        throw new StatusException(status);
+    }
+
+}
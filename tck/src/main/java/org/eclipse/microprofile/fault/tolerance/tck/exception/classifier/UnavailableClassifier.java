@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.exception.classifier;
+
+import org.eclipse.microprofile.faulttolerance.ExceptionClassifier;
+
+/**
+ * Matches a {@link StatusException} with status {@code 503}, and nothing else
+ */
+public class UnavailableClassifier implements ExceptionClassifier {
+
+    private static final ClassValue<Boolean> IS_STATUS_EXCEPTION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return StatusException.class.isAssignableFrom(type);
+        }
+    };
+
+    @Override
+    public int classify(Throwable failure) {
+        if (!IS_STATUS_EXCEPTION.get(failure.getClass())) {
+            return 0;
+        }
+        return ((StatusException) failure).getStatus() == 503 ? 1 : 0;
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.exception.classifier;
+
+import org.eclipse.microprofile.faulttolerance.ExceptionClassifier;
+
+/**
+ * Matches every exception. A {@link StatusException} with status {@code 503} has weight {@code 2}, any other
+ * exception has weight {@code 1}.
+ */
+public class WeightedClassifier implements ExceptionClassifier {
+
+    @Override
+    public int classify(Throwable failure) {
+        if (failure instanceof StatusException && ((StatusException) failure).getStatus() == 503) {
+            return 2;
+        }
+        return 1;
+    }
+
+}
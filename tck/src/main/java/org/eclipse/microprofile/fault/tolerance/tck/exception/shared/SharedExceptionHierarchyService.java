@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.exception.shared;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Circuit breakers whose {@code failOn} and {@code skipOn} mention the classes of the shared exceptions thrown by the
+ * implementation
+ */
+@ApplicationScoped
+public class SharedExceptionHierarchyService {
+
+    @Timeout(500)
+    @CircuitBreaker(failOn = TimeoutException.class, requestVolumeThreshold = 1, delay = 50000)
+    public void timeoutInFailOn() {
+        sleep();
+    }
+
+    @Timeout(500)
+    @CircuitBreaker(failOn = Exception.class, skipOn = FaultToleranceException.class, requestVolumeThreshold = 1,
+            delay = 50000)
+    public void timeoutSubclassInSkipOn() {
+        sleep();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(TCKConfig.getConfig().getTimeoutInMillis(20000));
+        } catch (InterruptedException e) {
+            // expected
+        }
+    }
+
+}
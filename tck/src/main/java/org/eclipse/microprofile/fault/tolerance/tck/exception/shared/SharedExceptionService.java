@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.exception.shared;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class SharedExceptionService {
+
+    public static final String FALLBACK_RESULT = "fallback";
+
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 50000)
+    public void circuitBreaker() {
+        throw new TestException();
+    }
+
+    @Bulkhead(1)
+    public void bulkhead(Barrier barrier) {
+        barrier.await();
+    }
+
+    @Timeout(500)
+    public void timeout() {
+        sleep();
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 50000)
+    @Fallback(fallbackMethod = "fallback", applyOn = FaultToleranceException.class, skipOn = TestException.class)
+    public String circuitBreakerWithFallback() {
+        throw new TestException();
+    }
+
+    @Timeout(500)
+    @Fallback(fallbackMethod = "fallback", applyOn = FaultToleranceException.class, skipOn = TimeoutException.class)
+    public String timeoutWithFallback() {
+        sleep();
+        return "OK";
+    }
+
+    public String fallback() {
+        return FALLBACK_RESULT;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(TCKConfig.getConfig().getTimeoutInMillis(20000));
+        } catch (InterruptedException e) {
+            // expected
+        }
+    }
+
+}
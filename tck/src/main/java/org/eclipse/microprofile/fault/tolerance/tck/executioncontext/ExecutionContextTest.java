@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.executioncontext;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.executioncontext.clientserver.ExecutionContextBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test the values reported by an injected {@link ExecutionContext}
+ */
+public class ExecutionContextTest extends Arquillian {
+
+    @Inject
+    private ExecutionContextBean bean;
+
+    @Inject
+    private ExecutionContext context;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(ExecutionContextBean.class, "retried")
+                .autoscaleMethod(ExecutionContextBean.class, "remainingTimeout")
+                .autoscaleMethod(ExecutionContextBean.class, "alwaysFailing");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftExecutionContext.jar")
+                .addPackage(ExecutionContextBean.class.getPackage())
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftExecutionContext.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testRetriedAttempts() {
+        assertThat(bean.retried(), is(3));
+        assertThat(bean.getAttemptNumbers(), contains(1, 2, 3));
+
+        List<Throwable> failures = bean.getFailures();
+        assertThat("failure during the first attempt", failures.get(0), nullValue());
+        assertThat(failures.get(1), instanceOf(TestException.class));
+        assertThat(failures.get(1).getMessage(), is("Test Exception - attempt 1"));
+        assertThat(failures.get(2).getMessage(), is("Test Exception - attempt 2"));
+
+        // two delays of 100ms have elapsed before the third attempt
+        List<Duration> elapsed = bean.getElapsedTimes();
+        assertThat(elapsed.get(1), greaterThanOrEqualTo(elapsed.get(0)));
+        assertThat(elapsed.get(2), greaterThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(200)));
+
+        Duration maxDuration = TCKConfig.getConfig().getTimeoutInDuration(10_000);
+        for (Optional<Duration> remaining : bean.getRemainingRetryDurations()) {
+            assertThat("remaining retry duration is present", remaining.isPresent(), is(true));
+            assertThat(remaining.get(), lessThanOrEqualTo(maxDuration));
+            assertThat(remaining.get(), greaterThanOrEqualTo(Duration.ZERO));
+        }
+        assertThat(bean.getRemainingRetryDurations().get(2).get(),
+                lessThanOrEqualTo(maxDuration.minus(elapsed.get(2)).plusMillis(1)));
+    }
+
+    @Test
+    public void testRemainingTimeout() {
+        Optional<Duration> remaining = bean.remainingTimeout();
+        assertThat("remaining timeout is present", remaining.isPresent(), is(true));
+        assertThat(remaining.get(), lessThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(2000)));
+        assertThat(remaining.get(), greaterThanOrEqualTo(Duration.ZERO));
+    }
+
+    @Test
+    public void testWithoutRetryOrTimeout() {
+        bean.notRetried();
+        assertThat(bean.getNotRetriedAttemptNumber(), is(1));
+        assertThat(bean.getNotRetriedRemainingTimeout(), is(Optional.empty()));
+        assertThat(bean.getNotRetriedRemainingRetryDuration(), is(Optional.empty()));
+    }
+
+    @Test
+    public void testFallbackAttemptNumber() {
+        assertThat(bean.alwaysFailing(), is(3));
+    }
+
+    @Test
+    public void testOutsideInvocation() {
+        expectThrows(IllegalStateException.class, () -> context.getAttemptNumber());
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.executioncontext.clientserver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Records what the injected {@link ExecutionContext} reports while the methods are running
+ */
+@ApplicationScoped
+public class ExecutionContextBean {
+
+    @Inject
+    private ExecutionContext context;
+
+    private final List<Integer> attemptNumbers = new CopyOnWriteArrayList<>();
+    private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+    private final List<Duration> elapsedTimes = new CopyOnWriteArrayList<>();
+    private final List<Optional<Duration>> remainingRetryDurations = new CopyOnWriteArrayList<>();
+
+    private int notRetriedAttemptNumber;
+    private Optional<Duration> notRetriedRemainingTimeout;
+    private Optional<Duration> notRetriedRemainingRetryDuration;
+
+    /**
+     * Fails the first two attempts, then returns the number of the last attempt
+     *
+     * @return the number of the last attempt
+     */
+    @Retry(maxRetries = 2, delay = 100, jitter = 0, maxDuration = 10_000)
+    public int retried() {
+        int attempt = context.getAttemptNumber();
+        attemptNumbers.add(attempt);
+        failures.add(context.getFailure());
+        elapsedTimes.add(context.getElapsedTime());
+        remainingRetryDurations.add(context.getRemainingRetryDuration());
+        if (attempt < 3) {
+            throw new TestException("attempt " + attempt);
+        }
+        return attempt;
+    }
+
+    @Timeout(2000)
+    public Optional<Duration> remainingTimeout() {
+        return context.getRemainingTimeout();
+    }
+
+    @Fallback(fallbackMethod = "notRetriedFallback")
+    public void notRetried() {
+        notRetriedAttemptNumber = context.getAttemptNumber();
+        notRetriedRemainingTimeout = context.getRemainingTimeout();
+        notRetriedRemainingRetryDuration = context.getRemainingRetryDuration();
+    }
+
+    public void notRetriedFallback() {
+        // not expected to be called
+    }
+
+    @Retry(maxRetries = 2, jitter = 0)
+    @Fallback(AttemptNumberFallbackHandler.class)
+    public int alwaysFailing() {
+        throw new TestException();
+    }
+
+    public List<Integer> getAttemptNumbers() {
+        return attemptNumbers;
+    }
+
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+
+    public List<Duration> getElapsedTimes() {
+        return elapsedTimes;
+    }
+
+    public List<Optional<Duration>> getRemainingRetryDurations() {
+        return remainingRetryDurations;
+    }
+
+    public int getNotRetriedAttemptNumber() {
+        return notRetriedAttemptNumber;
+    }
+
+    public Optional<Duration> getNotRetriedRemainingTimeout() {
+        return notRetriedRemainingTimeout;
+    }
+
+    public Optional<Duration> getNotRetriedRemainingRetryDuration() {
+        return notRetriedRemainingRetryDuration;
+    }
+
+}
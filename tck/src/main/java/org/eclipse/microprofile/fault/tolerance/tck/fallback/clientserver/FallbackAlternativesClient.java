@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.fallback.clientserver;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * A client to demonstrate a fallback followed by alternatives
+ * <p>
+ * Each service first falls back to the replica, then to the cache, then to {@link StringFallbackHandler}. The cache is
+ * only used for a {@link TestException}.
+ */
+@RequestScoped
+public class FallbackAlternativesClient {
+
+    private int counterForInvokingService = 0;
+    private int counterForInvokingReplica = 0;
+    private int counterForInvokingCache = 0;
+
+    public int getCounterForInvokingService() {
+        return counterForInvokingService;
+    }
+
+    public int getCounterForInvokingReplica() {
+        return counterForInvokingReplica;
+    }
+
+    public int getCounterForInvokingCache() {
+        return counterForInvokingCache;
+    }
+
+    /**
+     * The replica fails with a {@link TestException}, the cache succeeds
+     */
+    @Fallback(fallbackMethod = "replicaForServiceA", alternatives = {
+            @Fallback.Alternative(fallbackMethod = "cacheForServiceA", applyOn = TestException.class),
+            @Fallback.Alternative(StringFallbackHandler.class)
+    })
+    public String serviceA() {
+        counterForInvokingService++;
+        throw new TestException("Connection failed");
+    }
+
+    public String replicaForServiceA() {
+        counterForInvokingReplica++;
+        throw new TestException("Replica connection failed");
+    }
+
+    public String cacheForServiceA() {
+        counterForInvokingCache++;
+        return "cache for serviceA";
+    }
+
+    /**
+     * The replica fails with an exception which is not a {@link TestException}, so the cache is skipped
+     */
+    @Fallback(fallbackMethod = "replicaForServiceB", alternatives = {
+            @Fallback.Alternative(fallbackMethod = "cacheForServiceB", applyOn = TestException.class),
+            @Fallback.Alternative(StringFallbackHandler.class)
+    })
+    public String serviceB() {
+        counterForInvokingService++;
+        throw new TestException("Connection failed");
+    }
+
+    public String replicaForServiceB() {
+        counterForInvokingReplica++;
+        throw new IllegalStateException("Replica not configured");
+    }
+
+    public String cacheForServiceB() {
+        counterForInvokingCache++;
+        return "cache for serviceB";
+    }
+
+    /**
+     * The replica and the cache both fail with a {@link TestException}, and the last alternative does not apply to it
+     */
+    @Fallback(fallbackMethod = "replicaForServiceC", alternatives = {
+            @Fallback.Alternative(fallbackMethod = "cacheForServiceC", applyOn = TestException.class),
+            @Fallback.Alternative(value = StringFallbackHandler.class, skipOn = TestException.class)
+    })
+    public String serviceC() {
+        counterForInvokingService++;
+        throw new TestException("Connection failed");
+    }
+
+    public String replicaForServiceC() {
+        counterForInvokingReplica++;
+        throw new TestException("Replica connection failed");
+    }
+
+    public String cacheForServiceC() {
+        counterForInvokingCache++;
+        throw new TestException("Cache miss");
+    }
+}
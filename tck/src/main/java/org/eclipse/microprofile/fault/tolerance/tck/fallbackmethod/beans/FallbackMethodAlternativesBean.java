@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.fallbackmethod.beans;
+
+import org.eclipse.microprofile.faulttolerance.Fallback;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class FallbackMethodAlternativesBean {
+
+    @Fallback(alternatives = {
+            @Fallback.Alternative(fallbackMethod = "first"),
+            @Fallback.Alternative(fallbackMethod = "second", applyOn = IllegalArgumentException.class),
+            @Fallback.Alternative(fallbackMethod = "third")
+    })
+    public String method(int a, Long b) {
+        throw new RuntimeException("test");
+    }
+
+    public String first(int a, Long b) {
+        throw new IllegalStateException("first");
+    }
+
+    public String second(int a, Long b) {
+        return "second";
+    }
+
+    private String third(int a, Long b) {
+        return "third " + a + " " + b;
+    }
+}
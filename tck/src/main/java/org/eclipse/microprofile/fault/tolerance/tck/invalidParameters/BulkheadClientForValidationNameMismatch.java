@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.invalidParameters;
+
+import java.sql.Connection;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * A client to demonstrate the validation of the name on @Bulkhead, when methods using the same name declare different
+ * values
+ */
+@RequestScoped
+public class BulkheadClientForValidationNameMismatch {
+
+    @Bulkhead(value = 2, name = "mismatched-bulkhead")
+    public Connection serviceA() {
+        return null;
+    }
+
+    @Bulkhead(value = 3, name = "mismatched-bulkhead")
+    public Connection serviceB() {
+        return null;
+    }
+}
@@ -41,6 +41,7 @@ import java.util.concurrent.ExecutionException;
 
 import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.common.AllMetricsBean;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.common.TimeoutMetricBean;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.InvocationFallback;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.RetryResult;
@@ -73,10 +74,11 @@ public class AllMetricsTest extends Arquillian {
 
         // Scales the following method's annotation values by the TCKConfig baseMultiplier
         ConfigAnnotationAsset allMetricsBeanConfig = new ConfigAnnotationAsset()
-                .autoscaleMethod(AllMetricsBean.class, "doWork");
+                .autoscaleMethod(AllMetricsBean.class, "doWork")
+                .autoscaleMethod(TimeoutMetricBean.class, "adaptiveTestWorkForMillis");
 
         JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftMetricAll.jar")
-                .addClasses(AllMetricsBean.class)
+                .addClasses(AllMetricsBean.class, TimeoutMetricBean.class)
                 .addPackage(Packages.UTILS)
                 .addPackage(Packages.METRIC_UTILS)
                 .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
@@ -91,6 +93,9 @@ public class AllMetricsTest extends Arquillian {
     @Inject
     private AllMetricsBean allMetricsBean;
 
+    @Inject
+    private TimeoutMetricBean timeoutMetricBean;
+
     @Inject
     @RegistryType(type = Type.BASE)
     private MetricRegistryProxy metricRegistry;
@@ -153,6 +158,8 @@ public class AllMetricsTest extends Arquillian {
                 is(true));
         assertThat("bulkhead executions running value", m.getBulkheadExecutionsRunning().value(), is(0L));
         assertThat("bulkhead running duration histogram present", m.getBulkheadRunningDuration().isPresent(), is(true));
+        assertThat("bulkhead permits in use present", m.getBulkheadPermitsInUse().gauge().isPresent(), is(true));
+        assertThat("bulkhead permits in use value", m.getBulkheadPermitsInUse().value(), is(0L));
         assertThat("bulkhead executions waiting present", m.getBulkheadExecutionsWaiting().gauge().isPresent(),
                 is(true));
         assertThat("bulkhead executions waiting value", m.getBulkheadExecutionsWaiting().value(), is(0L));
@@ -161,8 +168,11 @@ public class AllMetricsTest extends Arquillian {
 
     @Test
     public void testMetricUnits() throws InterruptedException, ExecutionException {
-        // Call the method to ensure that all metrics get registered
+        // Call the methods to ensure that all metrics get registered
         allMetricsBean.doWork().get();
+        allMetricsBean.doCachedWork();
+        // ft.timeout.effectiveTimeout is only added for an adaptive timeout
+        timeoutMetricBean.adaptiveTestWorkForMillis(0);
 
         // Validate that each metric has metadata which declares the correct unit
         for (MetricDefinition metric : MetricDefinition.values()) {
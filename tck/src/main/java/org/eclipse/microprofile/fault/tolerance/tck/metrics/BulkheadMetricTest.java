@@ -246,6 +246,132 @@ public class BulkheadMetricTest extends Arquillian {
                 is(1L));
     }
 
+    @Test
+    public void bulkheadMetricMaxWaitTest() throws InterruptedException, ExecutionException, TimeoutException {
+        MetricGetter m = new MetricGetter(BulkheadMetricBean.class, "waitForMaxWait");
+        m.baselineMetrics();
+
+        CompletableFuture<Void> waitingFuture = newWaitingFuture();
+
+        Future<?> f1 = async.run(() -> bulkheadBean.waitForMaxWait(waitingFuture));
+        Future<?> f2 = async.run(() -> bulkheadBean.waitForMaxWait(waitingFuture));
+        bulkheadBean.waitForRunningExecutions(2);
+
+        Future<?> f3 = async.run(() -> bulkheadBean.waitForMaxWait(waitingFuture));
+        Future<?> f4 = async.run(() -> bulkheadBean.waitForMaxWait(waitingFuture));
+        waitForQueuePopulation(m, 2, config.getTimeoutInMillis(2000));
+
+        Future<?> f5 = async.run(() -> bulkheadBean.waitForMaxWait(waitingFuture));
+        expectBulkheadException(f5);
+
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(2L));
+        assertThat("executions waiting", m.getBulkheadExecutionsWaiting().value(), is(2L));
+
+        Thread.sleep(config.getTimeoutInMillis(1000));
+        waitingFuture.complete(null);
+
+        f1.get(1, MINUTES);
+        f2.get(1, MINUTES);
+        f3.get(1, MINUTES);
+        f4.get(1, MINUTES);
+
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(0L));
+        assertThat("executions waiting", m.getBulkheadExecutionsWaiting().value(), is(0L));
+        assertThat("accepted calls", m.getBulkheadCalls(ACCEPTED).delta(), is(4L));
+        assertThat("rejections", m.getBulkheadCalls(REJECTED).delta(), is(1L));
+
+        Histogram queueWaits = m.getBulkheadWaitingDuration().get();
+
+        // Expect 2 * wait for 0ms, 2 * wait for approximately 1000ms
+        assertThat("waiting duration histogram counts", queueWaits.getCount(), is(4L));
+
+        // General metrics should be updated
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(4L));
+        assertThat("failed invocations", m.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(1L));
+    }
+
+    @Test
+    public void bulkheadMetricPermitsTest() throws InterruptedException, ExecutionException, TimeoutException {
+        MetricGetter m = new MetricGetter(BulkheadMetricBean.class, "waitForPermits");
+        m.baselineMetrics();
+
+        CompletableFuture<Void> waitingFuture = newWaitingFuture();
+
+        Future<?> f1 = async.run(() -> bulkheadBean.waitForPermits(2, waitingFuture));
+        Future<?> f2 = async.run(() -> bulkheadBean.waitForPermits(3, waitingFuture));
+
+        bulkheadBean.waitForRunningExecutions(2);
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(2L));
+        assertThat("permits in use", m.getBulkheadPermitsInUse().value(), is(5L));
+
+        // All 5 permits are in use, next call should be rejected
+        Future<?> f3 = async.run(() -> bulkheadBean.waitForPermits(1, waitingFuture));
+        expectBulkheadException(f3);
+
+        waitingFuture.complete(null);
+        f1.get(1, MINUTES);
+        f2.get(1, MINUTES);
+
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(0L));
+        assertThat("permits in use", m.getBulkheadPermitsInUse().value(), is(0L));
+        assertThat("accepted calls", m.getBulkheadCalls(ACCEPTED).delta(), is(2L));
+        assertThat("rejected calls", m.getBulkheadCalls(REJECTED).delta(), is(1L));
+
+        // General metrics should be updated
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(2L));
+        assertThat("failed invocations", m.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(1L));
+    }
+
+    @Test
+    public void bulkheadMetricNamedTest() throws InterruptedException, ExecutionException, TimeoutException {
+        MetricGetter m = MetricGetter.forBulkhead(BulkheadMetricBean.NAMED_BULKHEAD);
+        MetricGetter mA = new MetricGetter(BulkheadMetricBean.class, "waitForNamedA");
+        MetricGetter mB = new MetricGetter(BulkheadMetricBean.class, "waitForNamedB");
+        m.baselineMetrics();
+        mA.baselineMetrics();
+        mB.baselineMetrics();
+
+        CompletableFuture<Void> waitingFuture = newWaitingFuture();
+
+        Future<?> f1 = async.run(() -> bulkheadBean.waitForNamedA(waitingFuture));
+        Future<?> f2 = async.run(() -> bulkheadBean.waitForNamedB(waitingFuture));
+
+        bulkheadBean.waitForRunningExecutions(2);
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(2L));
+
+        // Both methods share the bulkhead, which is full
+        Future<?> f3 = async.run(() -> bulkheadBean.waitForNamedA(waitingFuture));
+        expectBulkheadException(f3);
+
+        waitingFuture.complete(null);
+        f1.get(1, MINUTES);
+        f2.get(1, MINUTES);
+
+        assertThat("executions running", m.getBulkheadExecutionsRunning().value(), is(0L));
+        assertThat("accepted calls", m.getBulkheadCalls(ACCEPTED).delta(), is(2L));
+        assertThat("rejected calls", m.getBulkheadCalls(REJECTED).delta(), is(1L));
+
+        // Bulkhead metrics should not be added for each method
+        assertThat("method executions running present", mA.getBulkheadExecutionsRunning().gauge().isPresent(),
+                is(false));
+        assertThat("method executions running present", mB.getBulkheadExecutionsRunning().gauge().isPresent(),
+                is(false));
+
+        // General metrics should be updated for each method
+        assertThat("successful invocations", mA.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(1L));
+        assertThat("failed invocations", mA.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(1L));
+        assertThat("successful invocations", mB.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(1L));
+        assertThat("failed invocations", mB.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(0L));
+    }
+
     private void waitForQueuePopulation(MetricGetter m,
             int expectedQueuePopulation,
             long timeoutInMs) throws InterruptedException {
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.metrics;
+
+import static org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.InvocationResult.EXCEPTION_THROWN;
+import static org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.InvocationResult.VALUE_RETURNED;
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.common.CacheMetricBean;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.CacheCallResult;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.InvocationFallback;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricGetter;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+public class CacheMetricTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(CacheMetricBean.class, "cachedValue")
+                .autoscaleMethod(CacheMetricBean.class, "staleValue");
+
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftMetricCache.jar")
+                .addClasses(CacheMetricBean.class)
+                .addPackage(Packages.UTILS)
+                .addPackage(Packages.METRIC_UTILS)
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "ftMetricCache.war")
+                .addAsLibrary(jar);
+        return war;
+    }
+
+    @Inject
+    private CacheMetricBean cacheBean;
+
+    @Test
+    public void testCacheMetric() {
+        MetricGetter m = new MetricGetter(CacheMetricBean.class, "cachedValue");
+        m.baselineMetrics();
+
+        cacheBean.cachedValue("a"); // miss
+        cacheBean.cachedValue("a"); // hit
+        cacheBean.cachedValue("b"); // miss
+
+        assertThat("cache hits", m.getCacheCalls(CacheCallResult.HIT).delta(), is(1L));
+        assertThat("cache misses", m.getCacheCalls(CacheCallResult.MISS).delta(), is(2L));
+        assertThat("stale results", m.getCacheCalls(CacheCallResult.STALE).delta(), is(0L));
+
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(3L));
+        assertThat("failed invocations", m.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(0L));
+    }
+
+    @Test
+    public void testStaleMetric() throws InterruptedException {
+        MetricGetter m = new MetricGetter(CacheMetricBean.class, "staleValue");
+        m.baselineMetrics();
+
+        cacheBean.setFailing(false);
+        cacheBean.staleValue("a"); // miss
+
+        Thread.sleep(getConfig().getTimeoutInMillis(1000)); // ttl is 500ms
+        cacheBean.setFailing(true);
+        cacheBean.staleValue("a"); // expired, fails, returns the stale result
+
+        assertThat("cache hits", m.getCacheCalls(CacheCallResult.HIT).delta(), is(0L));
+        assertThat("cache misses", m.getCacheCalls(CacheCallResult.MISS).delta(), is(1L));
+        assertThat("stale results", m.getCacheCalls(CacheCallResult.STALE).delta(), is(1L));
+
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(2L));
+    }
+
+}
@@ -51,6 +51,8 @@ public class TimeoutMetricTest extends Arquillian {
                 .setValue(TimeoutMetricBean.class, "counterTestWorkForMillis", Timeout.class,
                         getConfig().getTimeoutInStr(500))
                 .setValue(TimeoutMetricBean.class, "histogramTestWorkForMillis", Timeout.class,
+                        getConfig().getTimeoutInStr(2000))
+                .setValue(TimeoutMetricBean.class, "adaptiveTestWorkForMillis", Timeout.class,
                         getConfig().getTimeoutInStr(2000));
 
         JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftMetricTimeout.jar")
@@ -102,4 +104,20 @@ public class TimeoutMetricTest extends Arquillian {
         assertThat("Histogram count", histogram.getCount(), is(2L));
     }
 
+    @Test
+    public void testEffectiveTimeoutGauge() {
+        MetricGetter m = new MetricGetter(TimeoutMetricBean.class, "adaptiveTestWorkForMillis");
+
+        timeoutBean.adaptiveTestWorkForMillis(0);
+
+        assertThat("effective timeout present", m.getTimeoutEffectiveTimeout().gauge().isPresent(), is(true));
+        // Not enough executions have been recorded for the timeout to adapt
+        assertThat("effective timeout value", m.getTimeoutEffectiveTimeout().value(),
+                is(getConfig().getTimeoutInDuration(2000).toNanos()));
+
+        MetricGetter notAdaptive = new MetricGetter(TimeoutMetricBean.class, "counterTestWorkForMillis");
+        assertThat("effective timeout present for a timeout which is not adaptive",
+                notAdaptive.getTimeoutEffectiveTimeout().gauge().isPresent(), is(false));
+    }
+
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.Future;
 
 import org.eclipse.microprofile.faulttolerance.Asynchronous;
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CacheResult;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Retry;
@@ -48,4 +49,9 @@ public class AllMetricsBean {
     public Future<Void> doFallback() {
         return CompletableFuture.completedFuture(null);
     }
+
+    @CacheResult
+    public String doCachedWork() {
+        return "cached";
+    }
 }
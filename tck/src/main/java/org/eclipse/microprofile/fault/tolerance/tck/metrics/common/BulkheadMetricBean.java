@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.microprofile.fault.tolerance.tck.util.ConcurrentExecutionTracker;
+import org.eclipse.microprofile.fault.tolerance.tck.util.FirstParameterPermitsExtractor;
 import org.eclipse.microprofile.faulttolerance.Asynchronous;
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 
@@ -35,6 +36,8 @@ import jakarta.inject.Inject;
 @ApplicationScoped
 public class BulkheadMetricBean {
 
+    public static final String NAMED_BULKHEAD = "tck-metric-bulkhead";
+
     @Inject
     private ConcurrentExecutionTracker tracker;
 
@@ -74,6 +77,52 @@ public class BulkheadMetricBean {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * WaitFor method for testing synchronous calls which wait for capacity
+     *
+     * @param future
+     *            to complete
+     */
+    @Bulkhead(value = 2, waitingTaskQueue = 2, maxWait = 60000)
+    public void waitForMaxWait(Future<?> future) {
+        doWaitFor(future);
+    }
+
+    /**
+     * WaitFor method for testing calls which take more than one permit
+     *
+     * @param permits
+     *            the number of permits the call takes
+     * @param future
+     *            to complete
+     */
+    @Bulkhead(value = 5, permitsExtractor = FirstParameterPermitsExtractor.class)
+    public void waitForPermits(int permits, Future<?> future) {
+        doWaitFor(future);
+    }
+
+    /**
+     * WaitFor method for testing named bulkheads, shares its bulkhead with {@link #waitForNamedB(Future)}
+     *
+     * @param future
+     *            to complete
+     */
+    @Bulkhead(value = 2, name = NAMED_BULKHEAD)
+    public void waitForNamedA(Future<?> future) {
+        doWaitFor(future);
+    }
+
+    /**
+     * WaitFor method for testing named bulkheads, shares its bulkhead with {@link #waitForNamedA(Future)}
+     *
+     * @param future
+     *            to complete
+     */
+    @Bulkhead(value = 2, name = NAMED_BULKHEAD)
+    public void waitForNamedB(Future<?> future) {
+        doWaitFor(future);
+    }
+
     private void doWaitFor(Future<?> future) {
         try {
             tracker.executionStarted();
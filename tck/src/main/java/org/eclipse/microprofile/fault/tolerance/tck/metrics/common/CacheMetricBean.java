@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.metrics.common;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.CacheResult;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class CacheMetricBean {
+
+    private final AtomicBoolean failing = new AtomicBoolean(false);
+
+    @CacheResult(ttl = 60000)
+    public String cachedValue(String key) {
+        return key;
+    }
+
+    @CacheResult(ttl = 500, staleIfError = 60000)
+    public String staleValue(String key) {
+        if (failing.get()) {
+            throw new TestException();
+        }
+        return key;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing.set(failing);
+    }
+
+}
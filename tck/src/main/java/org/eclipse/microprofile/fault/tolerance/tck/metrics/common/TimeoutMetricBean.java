@@ -36,6 +36,11 @@ public class TimeoutMetricBean {
         doWork(millis);
     }
 
+    @Timeout(value = 2000, adaptivePercentile = 99)
+    public void adaptiveTestWorkForMillis(long millis) {
+        doWork(millis);
+    }
+
     private void doWork(long millis) {
         try {
             Thread.sleep(millis);// timeout config must be done in the caller.
@@ -56,6 +56,8 @@ public enum MetricDefinition {
             TimeoutTimedOut.class),
     TIMEOUT_EXECUTION_DURATION("ft.timeout.executionDuration", Histogram.class,
             MetricUnits.NANOSECONDS),
+    TIMEOUT_EFFECTIVE_TIMEOUT("ft.timeout.effectiveTimeout", Gauge.class,
+            MetricUnits.NANOSECONDS),
     CIRCUITBREAKER_CALLS("ft.circuitbreaker.calls.total",
             Counter.class, CircuitBreakerResult.class),
     CIRCUITBREAKER_STATE(
@@ -69,6 +71,9 @@ public enum MetricDefinition {
     BULKHEAD_EXECUTIONS_RUNNING(
             "ft.bulkhead.executionsRunning",
             Gauge.class),
+    BULKHEAD_PERMITS_IN_USE(
+            "ft.bulkhead.permitsInUse",
+            Gauge.class),
     BULKHEAD_EXECUTIONS_WAITING(
             "ft.bulkhead.executionsWaiting",
             Gauge.class),
@@ -79,7 +84,10 @@ public enum MetricDefinition {
     BULKHEAD_WAITING_DURATION(
             "ft.bulkhead.waitingDuration",
             Histogram.class,
-            MetricUnits.NANOSECONDS);
+            MetricUnits.NANOSECONDS),
+    CACHE_CALLS(
+            "ft.cache.calls.total", Counter.class,
+            CacheCallResult.class);
 
     private String name;
     private String unit;
@@ -157,6 +165,20 @@ public enum MetricDefinition {
         }
     }
 
+    public enum CacheCallResult implements TagValue {
+        HIT("hit"), MISS("miss"), STALE("stale");
+
+        private Tag tag;
+
+        private CacheCallResult(String tagValue) {
+            tag = new Tag("cacheResult", tagValue);
+        }
+
+        public Tag getTag() {
+            return tag;
+        }
+    }
+
     public enum CircuitBreakerResult implements TagValue {
         SUCCESS("success"), FAILURE("failure"), CIRCUIT_BREAKER_OPEN("circuitBreakerOpen");
 
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.BulkheadResult;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.CacheCallResult;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.CircuitBreakerResult;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.CircuitBreakerState;
 import org.eclipse.microprofile.fault.tolerance.tck.metrics.util.MetricDefinition.InvocationFallback;
@@ -62,17 +63,36 @@ import jakarta.enterprise.inject.spi.CDI;
 public class MetricGetter {
 
     private MetricRegistryProxy registry;
-    private final Tag methodTag;
+    private final Tag ownerTag;
 
     private Map<MetricID, CounterMetric> counterMetrics = new HashMap<>();
     private Map<MetricID, GaugeMetric> gaugeMetrics = new HashMap<>();
 
     public MetricGetter(Class<?> clazz, String methodName) {
         validateClassAndMethodName(clazz, methodName);
-        methodTag = new Tag("method", clazz.getCanonicalName() + "." + methodName);
+        ownerTag = new Tag("method", clazz.getCanonicalName() + "." + methodName);
         registry = CDI.current().select(MetricRegistryProxy.class, RegistryTypeLiteral.BASE).get();
     }
 
+    private MetricGetter(Tag ownerTag) {
+        this.ownerTag = ownerTag;
+        registry = CDI.current().select(MetricRegistryProxy.class, RegistryTypeLiteral.BASE).get();
+    }
+
+    /**
+     * Create a MetricGetter for the metrics of a named bulkhead, which are tagged with the name of the bulkhead instead
+     * of the method name
+     * <p>
+     * Only the {@code ft.bulkhead.*} metrics are available from the returned MetricGetter.
+     *
+     * @param bulkheadName
+     *            the name of the bulkhead
+     * @return the MetricGetter
+     */
+    public static MetricGetter forBulkhead(String bulkheadName) {
+        return new MetricGetter(new Tag("bulkhead", bulkheadName));
+    }
+
     public CounterMetric getInvocations(InvocationResult result, InvocationFallback fallbackUsed) {
         return getCounterMetric(getMetricId(MetricDefinition.INVOCATIONS, result, fallbackUsed));
     }
@@ -93,6 +113,10 @@ public class MetricGetter {
         return getMetric(getMetricId(MetricDefinition.TIMEOUT_EXECUTION_DURATION), Histogram.class);
     }
 
+    public GaugeMetric getTimeoutEffectiveTimeout() {
+        return getGaugeMetric(getMetricId(MetricDefinition.TIMEOUT_EFFECTIVE_TIMEOUT));
+    }
+
     public CounterMetric getCircuitBreakerCalls(CircuitBreakerResult cbResult) {
         return getCounterMetric(getMetricId(MetricDefinition.CIRCUITBREAKER_CALLS, cbResult));
     }
@@ -113,6 +137,10 @@ public class MetricGetter {
         return getGaugeMetric(getMetricId(MetricDefinition.BULKHEAD_EXECUTIONS_RUNNING));
     }
 
+    public GaugeMetric getBulkheadPermitsInUse() {
+        return getGaugeMetric(getMetricId(MetricDefinition.BULKHEAD_PERMITS_IN_USE));
+    }
+
     public GaugeMetric getBulkheadExecutionsWaiting() {
         return getGaugeMetric(getMetricId(MetricDefinition.BULKHEAD_EXECUTIONS_WAITING));
     }
@@ -125,6 +153,10 @@ public class MetricGetter {
         return getMetric(getMetricId(MetricDefinition.BULKHEAD_WAITING_DURATION), Histogram.class);
     }
 
+    public CounterMetric getCacheCalls(CacheCallResult cacheResult) {
+        return getCounterMetric(getMetricId(MetricDefinition.CACHE_CALLS, cacheResult));
+    }
+
     /**
      * Calls {@code baseline()} on all relevant metrics.
      * <p>
@@ -229,7 +261,7 @@ public class MetricGetter {
 
         Tag[] tags = new Tag[metricTags.length + 1];
 
-        tags[0] = methodTag;
+        tags[0] = ownerTag;
 
         for (int i = 0; i < metricTags.length; i++) {
             Class<?> argClazz = metricDefinition.getTagClasses()[i];
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.quorum;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.fault.tolerance.tck.quorum.clientserver.QuorumBean.CENTRAL;
+import static org.eclipse.microprofile.fault.tolerance.tck.quorum.clientserver.QuorumBean.EAST;
+import static org.eclipse.microprofile.fault.tolerance.tck.quorum.clientserver.QuorumBean.WEST;
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.quorum.clientserver.QuorumBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.exceptions.QuorumNotReachedException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test the {@code @Quorum} annotation
+ */
+public class QuorumTest extends Arquillian {
+
+    @Inject
+    private QuorumBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftQuorum.jar")
+                .addClass(QuorumBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftQuorum.war")
+                .addAsLibrary(testJar);
+    }
+
+    @AfterMethod
+    public void reset() {
+        bean.reset();
+    }
+
+    @Test
+    public void testCompletesWhenQuorumReached() throws Exception {
+        CompletionStage<List<String>> result = bean.readTwo("key");
+
+        bean.gate(CENTRAL).complete("c");
+        assertThat("completed before quorum", result.toCompletableFuture().isDone(), is(false));
+        bean.gate(EAST).complete("e");
+
+        assertThat(get(result), contains("c", "e"));
+        await("remaining target method cancelled").atMost(getConfig().getTimeoutInDuration(5000))
+                .until(bean.gate(WEST)::isCancelled);
+    }
+
+    @Test
+    public void testFailsWhenQuorumNotReachable() throws Exception {
+        CompletionStage<List<String>> result = bean.readTwo("key");
+
+        bean.gate(EAST).completeExceptionally(new TestException());
+        assertThat("completed before quorum became unreachable", result.toCompletableFuture().isDone(), is(false));
+        bean.gate(WEST).completeExceptionally(new TestException());
+
+        try {
+            get(result);
+            fail("Expected a QuorumNotReachedException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(QuorumNotReachedException.class));
+            Throwable[] suppressed = e.getCause().getSuppressed();
+            assertThat(suppressed, arrayWithSize(2));
+            assertThat(Arrays.asList(suppressed), everyItem(instanceOf(TestException.class)));
+        }
+        await("remaining target method cancelled").atMost(getConfig().getTimeoutInDuration(5000))
+                .until(bean.gate(CENTRAL)::isCancelled);
+    }
+
+    @Test
+    public void testFirstSuccessIgnoresFailures() throws Exception {
+        CompletionStage<List<String>> result = bean.readAny("key");
+
+        bean.gate(EAST).completeExceptionally(new TestException());
+        bean.gate(WEST).complete("w");
+
+        assertThat(get(result), contains("w"));
+        await("remaining target method cancelled").atMost(getConfig().getTimeoutInDuration(5000))
+                .until(bean.gate(CENTRAL)::isCancelled);
+    }
+
+    @Test
+    public void testOpenCircuitBreakerCountsAsFailure() throws Exception {
+        bean.gate(EAST).complete("e");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(get(bean.readWithBroken("key")), contains("e"));
+        }
+
+        // The circuit breaker of readBroken opened after two failures, so the third call was not executed
+        assertThat("readBroken executions", bean.getBrokenExecutions(), is(2));
+    }
+
+    private List<String> get(CompletionStage<List<String>> stage) throws Exception {
+        return stage.toCompletableFuture().get(getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.quorum.clientserver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Quorum;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Quorum methods whose target methods return a gate for each target, which the test completes
+ */
+@ApplicationScoped
+public class QuorumBean {
+
+    public static final String EAST = "east";
+    public static final String WEST = "west";
+    public static final String CENTRAL = "central";
+
+    private final Map<String, CompletableFuture<String>> gates = new ConcurrentHashMap<>();
+    private final AtomicInteger brokenExecutions = new AtomicInteger(0);
+
+    @Quorum(required = 2, targetMethods = {"readEast", "readWest", "readCentral"})
+    public CompletionStage<List<String>> readTwo(String key) {
+        return readEast(key).thenApply(Collections::singletonList);
+    }
+
+    @Quorum(required = 1, targetMethods = {"readEast", "readWest", "readCentral"})
+    public CompletionStage<List<String>> readAny(String key) {
+        return readEast(key).thenApply(Collections::singletonList);
+    }
+
+    /**
+     * The first target method always fails and opens its circuit breaker after two calls
+     */
+    @Quorum(required = 1, targetMethods = {"readBroken", "readEast"})
+    public CompletionStage<List<String>> readWithBroken(String key) {
+        return readEast(key).thenApply(Collections::singletonList);
+    }
+
+    @Asynchronous
+    public CompletionStage<String> readEast(String key) {
+        return gate(EAST);
+    }
+
+    @Asynchronous
+    public CompletionStage<String> readWest(String key) {
+        return gate(WEST);
+    }
+
+    @Asynchronous
+    public CompletionStage<String> readCentral(String key) {
+        return gate(CENTRAL);
+    }
+
+    /**
+     * Not asynchronous, so that it fails before the next target method is called
+     */
+    @CircuitBreaker(requestVolumeThreshold = 2, failureRatio = 1.0, delay = 60000)
+    public CompletionStage<String> readBroken(String key) {
+        brokenExecutions.incrementAndGet();
+        throw new TestException();
+    }
+
+    /**
+     * Returns the gate which the target method with the given name returns
+     */
+    public CompletableFuture<String> gate(String target) {
+        return gates.computeIfAbsent(target, t -> new CompletableFuture<>());
+    }
+
+    public void reset() {
+        gates.values().forEach(gate -> gate.cancel(true));
+        gates.clear();
+    }
+
+    public int getBrokenExecutions() {
+        return brokenExecutions.get();
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.rejection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver.LightweightRejectionBean;
+import org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver.RecordingFallbackHandler;
+import org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver.RejectionFailureRecorder;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that rejections still report their reason when {@code mp.fault.tolerance.rejection.lightweight} is enabled
+ */
+public class LightweightRejectionTest extends Arquillian {
+
+    @Inject
+    private LightweightRejectionBean bean;
+
+    @Inject
+    private RejectionFailureRecorder recorder;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftLightweightRejectionTest.jar")
+                .addPackage(LightweightRejectionBean.class.getPackage())
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(new StringAsset("mp.fault.tolerance.rejection.lightweight=true"),
+                        "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftLightweightRejectionTest.war").addAsLibrary(testJar);
+    }
+
+    @BeforeMethod
+    public void resetRecorder() {
+        recorder.reset();
+    }
+
+    @Test
+    public void testBulkheadFallback() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::bulkheadWithFallback);
+            taskA.assertAwaits();
+
+            // Bulkhead is full, fallback should be invoked with the reason for the rejection
+            String result = bean.bulkheadWithFallback(taskManager.newBarrier());
+            assertThat(result, is(RecordingFallbackHandler.FALLBACK_RESULT));
+            assertStackless(recorder.getLastFailure(), BulkheadException.class);
+        }
+    }
+
+    @Test
+    public void testBulkheadCompletionStage() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<String> taskA = taskManager.runAsyncCsBarrierTask(bean::bulkheadAsync);
+            taskA.assertAwaits();
+            BarrierTask<String> taskB = taskManager.runAsyncCsBarrierTask(bean::bulkheadAsync);
+            taskB.assertNotAwaiting();
+
+            // Bulkhead and queue are full
+            BarrierTask<String> taskC = taskManager.runAsyncCsBarrierTask(bean::bulkheadAsync);
+            try {
+                taskC.getResult();
+                fail("Task did not throw an exception");
+            } catch (ExecutionException e) {
+                assertStackless(e.getCause(), BulkheadException.class);
+            }
+        }
+    }
+
+    @Test
+    public void testCircuitBreakerFallback() {
+        // First call fails and opens the circuit
+        assertThat(bean.circuitBreakerWithFallback(), is(RecordingFallbackHandler.FALLBACK_RESULT));
+        assertThat(recorder.getLastFailure(), instanceOf(TestException.class));
+
+        // Circuit is open, fallback should be invoked with the reason for the rejection
+        assertThat(bean.circuitBreakerWithFallback(), is(RecordingFallbackHandler.FALLBACK_RESULT));
+        assertStackless(recorder.getLastFailure(), CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void testCircuitBreakerCompletionStage() throws InterruptedException, TimeoutException {
+        // First call fails and opens the circuit
+        try {
+            bean.circuitBreakerAsync().toCompletableFuture().get(1, TimeUnit.MINUTES);
+            fail("First call did not throw an exception");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TestException.class));
+        }
+
+        // Circuit is open
+        try {
+            bean.circuitBreakerAsync().toCompletableFuture().get(1, TimeUnit.MINUTES);
+            fail("Second call did not throw an exception");
+        } catch (ExecutionException e) {
+            assertStackless(e.getCause(), CircuitBreakerOpenException.class);
+        }
+    }
+
+    private void assertStackless(Throwable failure, Class<? extends Throwable> expectedClass) {
+        assertThat(failure, instanceOf(expectedClass));
+        assertThat("stack trace of " + failure, failure.getStackTrace(), arrayWithSize(0));
+    }
+
+}
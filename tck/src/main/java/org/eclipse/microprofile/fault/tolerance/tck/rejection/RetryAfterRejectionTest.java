@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.rejection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver.RetryAfterRejectionBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager;
+import org.eclipse.microprofile.fault.tolerance.tck.util.AsyncTaskManager.BarrierTask;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that rejections carry a retry-after hint when {@code mp.fault.tolerance.rejection.retryAfter} is enabled
+ */
+public class RetryAfterRejectionTest extends Arquillian {
+
+    @Inject
+    private RetryAfterRejectionBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        Properties props = new Properties();
+        props.put("mp.fault.tolerance.rejection.retryAfter", "true");
+
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(RetryAfterRejectionBean.class, "bulkhead")
+                .autoscaleMethod(RetryAfterRejectionBean.class, "bulkheadNeverCompleted")
+                .autoscaleMethod(RetryAfterRejectionBean.class, "circuitBreaker")
+                .autoscaleMethod(RetryAfterRejectionBean.class, "retriedCircuitBreaker")
+                .mergeProperties(props);
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftRetryAfterRejectionTest.jar")
+                .addClass(RetryAfterRejectionBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+        return ShrinkWrap.create(WebArchive.class, "ftRetryAfterRejectionTest.war").addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testCircuitBreakerHint() {
+        // First call fails and opens the circuit
+        expectThrows(TestException.class, () -> bean.circuitBreaker());
+
+        CircuitBreakerOpenException e = expectThrows(CircuitBreakerOpenException.class, () -> bean.circuitBreaker());
+        assertThat("retry-after hint", e.retryAfter(), notNullValue());
+        assertThat(e.retryAfter(), greaterThanOrEqualTo(Duration.ZERO));
+        assertThat(e.retryAfter(), lessThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(2000)));
+    }
+
+    @Test
+    public void testBulkheadHint() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            // Let an execution leave the bulkhead, so that the implementation has a basis for an estimate
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::bulkhead);
+            taskA.assertAwaits();
+            taskA.openBarrier();
+            taskA.assertSuccess();
+
+            BarrierTask<?> taskB = taskManager.runBarrierTask(bean::bulkhead);
+            taskB.assertAwaits();
+
+            BulkheadException e = expectThrows(BulkheadException.class,
+                    () -> bean.bulkhead(taskManager.newBarrier()));
+            assertThat("retry-after hint", e.retryAfter(), notNullValue());
+            assertThat(e.retryAfter(), greaterThanOrEqualTo(Duration.ZERO));
+        }
+    }
+
+    @Test
+    public void testBulkheadNoHint() {
+        try (AsyncTaskManager taskManager = new AsyncTaskManager()) {
+            BarrierTask<?> taskA = taskManager.runBarrierTask(bean::bulkheadNeverCompleted);
+            taskA.assertAwaits();
+
+            // No execution has left the bulkhead yet, so there is no basis for an estimate
+            BulkheadException e = expectThrows(BulkheadException.class,
+                    () -> bean.bulkheadNeverCompleted(taskManager.newBarrier()));
+            assertThat("retry-after hint", e.retryAfter(), nullValue());
+        }
+    }
+
+    @Test
+    public void testRetryUsesCircuitBreakerHint() {
+        long start = System.nanoTime();
+        // Without the hint, both retries would be rejected by the open circuit
+        assertThat(bean.retriedCircuitBreaker(), is("OK"));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat("invocations", bean.getRetriedCircuitBreakerCounter(), is(2));
+        assertThat("should have waited for the circuit to become half-open", elapsed,
+                greaterThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(1000).minusMillis(100)));
+    }
+
+}
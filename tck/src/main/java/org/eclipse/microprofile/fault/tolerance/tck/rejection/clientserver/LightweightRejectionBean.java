@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Bulkheads and circuit breakers which reject calls, either with a {@link RecordingFallbackHandler} or as
+ * asynchronous methods without a fallback
+ */
+@ApplicationScoped
+public class LightweightRejectionBean {
+
+    @Bulkhead(1)
+    @Fallback(RecordingFallbackHandler.class)
+    public String bulkheadWithFallback(Barrier barrier) {
+        barrier.await();
+        return "OK";
+    }
+
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 1)
+    public CompletionStage<String> bulkheadAsync(Barrier barrier) {
+        barrier.await();
+        return CompletableFuture.completedFuture("OK");
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 50000)
+    @Fallback(RecordingFallbackHandler.class)
+    public String circuitBreakerWithFallback() {
+        throw new TestException();
+    }
+
+    @Asynchronous
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 50000)
+    public CompletionStage<String> circuitBreakerAsync() {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.completeExceptionally(new TestException());
+        return result;
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver;
+
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.eclipse.microprofile.faulttolerance.FallbackHandler;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+/**
+ * A fallback handler which records the failure reported by {@link ExecutionContext#getFailure()}
+ */
+@Dependent
+public class RecordingFallbackHandler implements FallbackHandler<String> {
+
+    public static final String FALLBACK_RESULT = "fallback";
+
+    @Inject
+    private RejectionFailureRecorder recorder;
+
+    @Override
+    public String handle(ExecutionContext context) {
+        recorder.record(context.getFailure());
+        return FALLBACK_RESULT;
+    }
+
+}
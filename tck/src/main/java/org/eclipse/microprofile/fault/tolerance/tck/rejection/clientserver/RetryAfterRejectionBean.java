@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.rejection.clientserver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.Barrier;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class RetryAfterRejectionBean {
+
+    private final AtomicInteger retriedCircuitBreakerCounter = new AtomicInteger();
+
+    @Bulkhead(1)
+    public String bulkhead(Barrier barrier) {
+        barrier.await();
+        return "OK";
+    }
+
+    /**
+     * No execution of this method ever completes, so there is no basis for a hint.
+     */
+    @Bulkhead(1)
+    public String bulkheadNeverCompleted(Barrier barrier) {
+        barrier.await();
+        return "OK";
+    }
+
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 2000)
+    public String circuitBreaker() {
+        throw new TestException();
+    }
+
+    /**
+     * The first invocation fails and opens the circuit, the following invocations succeed.
+     * <p>
+     * The retry has no delay, so without a hint, the retries would be rejected while the circuit is still open.
+     */
+    @Retry(maxRetries = 2, delay = 0, jitter = 0, maxDuration = 20_000)
+    @CircuitBreaker(requestVolumeThreshold = 1, failureRatio = 1.0, delay = 1000)
+    public String retriedCircuitBreaker() {
+        if (retriedCircuitBreakerCounter.incrementAndGet() == 1) {
+            throw new TestException();
+        }
+        return "OK";
+    }
+
+    public int getRetriedCircuitBreakerCounter() {
+        return retriedCircuitBreakerCounter.get();
+    }
+
+}
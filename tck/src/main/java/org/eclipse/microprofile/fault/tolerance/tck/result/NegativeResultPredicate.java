@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.result;
+
+import org.eclipse.microprofile.faulttolerance.ResultPredicate;
+
+/**
+ * Matches negative results, which the clients of the retry and circuit breaker tests use to report errors
+ */
+public class NegativeResultPredicate implements ResultPredicate<Integer> {
+
+    @Override
+    public boolean test(Integer result) {
+        return result != null && result < 0;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.retry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.retry.clientserver.RetryAfterException;
+import org.eclipse.microprofile.fault.tolerance.tck.retry.clientserver.RetryClientRetryAfter;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that {@code Retry} uses the delay hinted by an exception implementing {@code RetryAfterHint}
+ */
+public class RetryAfterHintTest extends Arquillian {
+
+    @Inject
+    private RetryClientRetryAfter client;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(RetryClientRetryAfter.class, "serviceShortHint")
+                .autoscaleMethod(RetryClientRetryAfter.class, "serviceLongHint")
+                .autoscaleMethod(RetryClientRetryAfter.class, "serviceHintBeyondMaxDuration")
+                .autoscaleMethod(RetryClientRetryAfter.class, "serviceNoHint");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftRetryAfterHint.jar")
+                .addClasses(RetryClientRetryAfter.class, RetryAfterException.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftRetryAfterHint.war")
+                .addAsLibrary(testJar);
+    }
+
+    /**
+     * The hint replaces the configured delay when it is shorter
+     */
+    @Test
+    public void testShortHint() {
+        long start = System.nanoTime();
+        expectThrows(RetryAfterException.class, () -> client.serviceShortHint());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(client.getShortHintCounter(), 3, "Invocations of serviceShortHint");
+        assertThat("Configured delay should not be used", elapsed,
+                lessThan(TCKConfig.getConfig().getTimeoutInDuration(10_000)));
+    }
+
+    /**
+     * The hint replaces the configured delay when it is longer
+     */
+    @Test
+    public void testLongHint() {
+        long start = System.nanoTime();
+        expectThrows(RetryAfterException.class, () -> client.serviceLongHint());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(client.getLongHintCounter(), 3, "Invocations of serviceLongHint");
+        assertThat("Hint should be used before each retry", elapsed,
+                greaterThanOrEqualTo(RetryClientRetryAfter.LONG_HINT.multipliedBy(2)));
+    }
+
+    /**
+     * No retry is performed if the hint would make it start after the max duration, and the exception is rethrown
+     * without waiting
+     */
+    @Test
+    public void testHintBeyondMaxDuration() {
+        long start = System.nanoTime();
+        expectThrows(RetryAfterException.class, () -> client.serviceHintBeyondMaxDuration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(client.getBeyondMaxDurationCounter(), 1, "Invocations of serviceHintBeyondMaxDuration");
+        assertThat("Hint should not be waited for", elapsed,
+                lessThan(RetryClientRetryAfter.HINT_BEYOND_MAX_DURATION));
+    }
+
+    /**
+     * The configured delay is used when the exception provides no hint
+     */
+    @Test
+    public void testNoHint() {
+        long start = System.nanoTime();
+        expectThrows(RetryAfterException.class, () -> client.serviceNoHint());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(client.getNoHintCounter(), 3, "Invocations of serviceNoHint");
+        assertThat("Configured delay should be used before each retry", elapsed,
+                greaterThanOrEqualTo(TCKConfig.getConfig().getTimeoutInDuration(1000)));
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.retry;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.fault.tolerance.tck.result.NegativeResultPredicate;
+import org.eclipse.microprofile.fault.tolerance.tck.retry.clientserver.RetryClientOnResult;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test {@code Retry.retryOnResult()}
+ */
+public class RetryOnResultTest extends Arquillian {
+
+    @Inject
+    private RetryClientOnResult client;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftRetryOnResult.jar")
+                .addClasses(RetryClientOnResult.class, NegativeResultPredicate.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftRetryOnResult.war")
+                .addAsLibrary(testJar);
+    }
+
+    /**
+     * A result matching the predicate is retried, and the first result which doesn't match is returned
+     */
+    @Test
+    public void testRetryOnResult() {
+        assertEquals(client.serviceA(), 3, "Result of serviceA");
+        assertEquals(client.getCounterForServiceA(), 3, "Invocations of serviceA");
+    }
+
+    /**
+     * When the maximum number of retries is reached, the last result is returned
+     */
+    @Test
+    public void testMaxRetriesReachedReturnsLastResult() {
+        assertEquals(client.serviceB(), -1, "Result of serviceB");
+        assertEquals(client.getCounterForServiceB(), 4, "Invocations of serviceB");
+    }
+
+    /**
+     * The predicate is applied to the value the CompletionStage completes with
+     */
+    @Test
+    public void testRetryOnCompletionStageResult()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        assertEquals(client.serviceC().toCompletableFuture().get(1, TimeUnit.MINUTES).intValue(), 3,
+                "Result of serviceC");
+        assertEquals(client.getCounterForServiceC(), 3, "Invocations of serviceC");
+    }
+
+    /**
+     * A fallback is not used when the last result matches the predicate, because no exception was thrown
+     */
+    @Test
+    public void testFallbackNotUsedForResult() {
+        assertEquals(client.serviceD(), -1, "Result of serviceD");
+        assertEquals(client.getCounterForServiceD(), 3, "Invocations of serviceD");
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.retry.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.result.NegativeResultPredicate;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A client to demonstrate retrying on results using {@code retryOnResult}
+ * <p>
+ * Each method returns {@code -1} to report an error.
+ */
+@ApplicationScoped
+public class RetryClientOnResult {
+
+    private final AtomicInteger counterForServiceA = new AtomicInteger();
+    private final AtomicInteger counterForServiceB = new AtomicInteger();
+    private final AtomicInteger counterForServiceC = new AtomicInteger();
+    private final AtomicInteger counterForServiceD = new AtomicInteger();
+
+    /**
+     * Returns an error for the first two attempts, then the number of the attempt
+     *
+     * @return the number of the attempt which succeeded
+     */
+    @Retry(maxRetries = 3, jitter = 0, retryOnResult = NegativeResultPredicate.class)
+    public int serviceA() {
+        int attempt = counterForServiceA.incrementAndGet();
+        return attempt <= 2 ? -1 : attempt;
+    }
+
+    /**
+     * Always returns an error
+     *
+     * @return {@code -1}
+     */
+    @Retry(maxRetries = 3, jitter = 0, retryOnResult = NegativeResultPredicate.class)
+    public int serviceB() {
+        counterForServiceB.incrementAndGet();
+        return -1;
+    }
+
+    /**
+     * Completes with an error for the first two attempts, then with the number of the attempt
+     *
+     * @return a CompletionStage which completes with the number of the attempt
+     */
+    @Asynchronous
+    @Retry(maxRetries = 3, jitter = 0, retryOnResult = NegativeResultPredicate.class)
+    public CompletionStage<Integer> serviceC() {
+        int attempt = counterForServiceC.incrementAndGet();
+        return CompletableFuture.completedFuture(attempt <= 2 ? -1 : attempt);
+    }
+
+    /**
+     * Always returns an error, the fallback should not be used
+     *
+     * @return {@code -1}
+     */
+    @Retry(maxRetries = 2, jitter = 0, retryOnResult = NegativeResultPredicate.class)
+    @Fallback(fallbackMethod = "fallback")
+    public int serviceD() {
+        counterForServiceD.incrementAndGet();
+        return -1;
+    }
+
+    public int fallback() {
+        return 0;
+    }
+
+    public int getCounterForServiceA() {
+        return counterForServiceA.get();
+    }
+
+    public int getCounterForServiceB() {
+        return counterForServiceB.get();
+    }
+
+    public int getCounterForServiceC() {
+        return counterForServiceC.get();
+    }
+
+    public int getCounterForServiceD() {
+        return counterForServiceD.get();
+    }
+
+}
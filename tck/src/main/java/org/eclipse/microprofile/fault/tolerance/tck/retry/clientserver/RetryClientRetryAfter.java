@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.retry.clientserver;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A client whose methods always throw a {@link RetryAfterException}
+ */
+@ApplicationScoped
+public class RetryClientRetryAfter {
+
+    public static final Duration SHORT_HINT = TCKConfig.getConfig().getTimeoutInDuration(100);
+    public static final Duration LONG_HINT = TCKConfig.getConfig().getTimeoutInDuration(500);
+    public static final Duration HINT_BEYOND_MAX_DURATION = TCKConfig.getConfig().getTimeoutInDuration(20_000);
+
+    private final AtomicInteger shortHintCounter = new AtomicInteger();
+    private final AtomicInteger longHintCounter = new AtomicInteger();
+    private final AtomicInteger beyondMaxDurationCounter = new AtomicInteger();
+    private final AtomicInteger noHintCounter = new AtomicInteger();
+
+    /**
+     * The hint is much shorter than the configured delay
+     */
+    @Retry(maxRetries = 2, delay = 20_000, jitter = 0)
+    public void serviceShortHint() {
+        shortHintCounter.incrementAndGet();
+        throw new RetryAfterException(SHORT_HINT);
+    }
+
+    /**
+     * The hint is longer than the configured delay
+     */
+    @Retry(maxRetries = 2, delay = 0, jitter = 0)
+    public void serviceLongHint() {
+        longHintCounter.incrementAndGet();
+        throw new RetryAfterException(LONG_HINT);
+    }
+
+    /**
+     * The hint is longer than the max duration
+     */
+    @Retry(maxRetries = 5, delay = 0, jitter = 0, maxDuration = 1000)
+    public void serviceHintBeyondMaxDuration() {
+        beyondMaxDurationCounter.incrementAndGet();
+        throw new RetryAfterException(HINT_BEYOND_MAX_DURATION);
+    }
+
+    /**
+     * There is no hint, the configured delay applies
+     */
+    @Retry(maxRetries = 2, delay = 500, jitter = 0)
+    public void serviceNoHint() {
+        noHintCounter.incrementAndGet();
+        throw new RetryAfterException(null);
+    }
+
+    public int getShortHintCounter() {
+        return shortHintCounter.get();
+    }
+
+    public int getLongHintCounter() {
+        return longHintCounter.get();
+    }
+
+    public int getBeyondMaxDurationCounter() {
+        return beyondMaxDurationCounter.get();
+    }
+
+    public int getNoHintCounter() {
+        return noHintCounter.get();
+    }
+
+}
@@ -23,6 +23,7 @@ import static org.testng.Assert.fail;
 
 import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
 import org.eclipse.microprofile.fault.tolerance.tck.util.TestException;
+import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
@@ -42,6 +43,10 @@ public class RetryTimeoutClient {
     private int counterForInvokingServiceA = 0;
     private int counterForInvokingServiceWithoutRetryOn = 0;
     private int counterForInvokingServiceWithAbortOn = 0;
+    private int counterForInvokingServiceTotal = 0;
+    private int counterForInvokingServiceTotalMinRemaining = 0;
+    private int counterForInvokingServiceTotalSlow = 0;
+    private int counterForInvokingFallbackForServiceTotal = 0;
     private TCKConfig config = TCKConfig.getConfig();
 
     public int getCounterForInvokingServiceA() {
@@ -56,6 +61,22 @@ public class RetryTimeoutClient {
         return counterForInvokingServiceWithAbortOn;
     }
 
+    public int getCounterForInvokingServiceTotal() {
+        return counterForInvokingServiceTotal;
+    }
+
+    public int getCounterForInvokingServiceTotalMinRemaining() {
+        return counterForInvokingServiceTotalMinRemaining;
+    }
+
+    public int getCounterForInvokingServiceTotalSlow() {
+        return counterForInvokingServiceTotalSlow;
+    }
+
+    public int getCounterForInvokingFallbackForServiceTotal() {
+        return counterForInvokingFallbackForServiceTotal;
+    }
+
     /**
      * Times out after 500ms, retries once
      *
@@ -113,4 +134,65 @@ public class RetryTimeoutClient {
         }
         return null;
     }
+
+    /**
+     * Each attempt fails after 400ms, the total timeout of 1000ms is reached during the third attempt
+     *
+     * @return never returns
+     */
+    @Timeout(value = 1000, scope = Timeout.Scope.TOTAL)
+    @Retry(maxRetries = 10, delay = 0, jitter = 0)
+    public String serviceTotal() {
+        counterForInvokingServiceTotal++;
+        failAfter(config.getTimeoutInMillis(400));
+        return null;
+    }
+
+    /**
+     * Each attempt fails after 400ms, the second retry is not started because less than 500ms would remain
+     *
+     * @return never returns
+     */
+    @Timeout(value = 1000, scope = Timeout.Scope.TOTAL, minRemaining = 500)
+    @Retry(maxRetries = 10, delay = 0, jitter = 0)
+    public String serviceTotalMinRemaining() {
+        counterForInvokingServiceTotalMinRemaining++;
+        failAfter(config.getTimeoutInMillis(400));
+        return null;
+    }
+
+    /**
+     * Sleeps for 1000ms, the total timeout of 500ms is reached during the first attempt and neither retry nor fallback
+     * may be used
+     *
+     * @return {@code null}
+     */
+    @Timeout(value = 500, scope = Timeout.Scope.TOTAL)
+    @Retry(maxRetries = 2)
+    @Fallback(fallbackMethod = "fallbackForServiceTotal")
+    public String serviceTotalSlow() {
+        try {
+            counterForInvokingServiceTotalSlow++;
+            Thread.sleep(config.getTimeoutInMillis(1000));
+            fail("Timeout did not interrupt");
+        } catch (InterruptedException e) {
+            // expected
+        }
+        return null;
+    }
+
+    public String fallbackForServiceTotal() {
+        counterForInvokingFallbackForServiceTotal++;
+        return "fallback";
+    }
+
+    private void failAfter(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // expected when the total timeout is reached
+            return;
+        }
+        throw new TestException();
+    }
 }
@@ -149,6 +149,8 @@ public class AllAnnotationTelemetryTest extends Arquillian {
         assertThat("bulkhead executions running value", m.getBulkheadExecutionsRunning().value(), is(0L));
         assertThat("bulkhead running duration histogram present", m.getBulkheadRunningDuration().isPresent(),
                 is(true));
+        assertThat("bulkhead permits in use present", m.getBulkheadPermitsInUse().isPresent(), is(true));
+        assertThat("bulkhead permits in use value", m.getBulkheadPermitsInUse().value(), is(0L));
         assertThat("bulkhead executions waiting present", m.getBulkheadExecutionsWaiting().isPresent(),
                 is(true));
         assertThat("bulkhead executions waiting value", m.getBulkheadExecutionsWaiting().value(), is(0L));
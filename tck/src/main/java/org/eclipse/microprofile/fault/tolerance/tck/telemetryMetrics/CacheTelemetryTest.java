@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics;
+
+import static org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.InvocationResult.EXCEPTION_THROWN;
+import static org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.InvocationResult.VALUE_RETURNED;
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Properties;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.metrics.common.CacheMetricBean;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.InMemoryMetricReader;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.PullExporterAutoConfigurationCustomizerProvider;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.CacheCallResult;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.InvocationFallback;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricGetter;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import jakarta.inject.Inject;
+
+public class CacheTelemetryTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        Properties props = new Properties();
+        props.put("otel.sdk.disabled", "false");
+        props.put("otel.traces.exporter", "none");
+
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(CacheMetricBean.class, "cachedValue")
+                .autoscaleMethod(CacheMetricBean.class, "staleValue")
+                .mergeProperties(props);
+
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftMetricCache.jar")
+                .addClasses(CacheMetricBean.class)
+                .addPackage(Packages.UTILS)
+                .addPackage(Packages.TELEMETRY_METRIC_UTILS)
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsServiceProvider(AutoConfigurationCustomizerProvider.class,
+                        PullExporterAutoConfigurationCustomizerProvider.class);
+
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "ftMetricCache.war")
+                .addAsLibrary(jar);
+        return war;
+    }
+
+    @Inject
+    private CacheMetricBean cacheBean;
+
+    @Test
+    public void testCacheMetric() {
+        TelemetryMetricGetter m = new TelemetryMetricGetter(CacheMetricBean.class, "cachedValue");
+        m.baselineMetrics();
+
+        cacheBean.cachedValue("a"); // miss
+        cacheBean.cachedValue("a"); // hit
+        cacheBean.cachedValue("b"); // miss
+
+        assertThat("cache hits", m.getCacheCalls(CacheCallResult.HIT).delta(), is(1L));
+        assertThat("cache misses", m.getCacheCalls(CacheCallResult.MISS).delta(), is(2L));
+        assertThat("stale results", m.getCacheCalls(CacheCallResult.STALE).delta(), is(0L));
+
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(3L));
+        assertThat("failed invocations", m.getInvocations(EXCEPTION_THROWN, InvocationFallback.NOT_DEFINED).delta(),
+                is(0L));
+    }
+
+    @Test
+    public void testStaleMetric() throws InterruptedException {
+        TelemetryMetricGetter m = new TelemetryMetricGetter(CacheMetricBean.class, "staleValue");
+        m.baselineMetrics();
+
+        cacheBean.setFailing(false);
+        cacheBean.staleValue("a"); // miss
+
+        Thread.sleep(getConfig().getTimeoutInMillis(1000)); // ttl is 500ms
+        cacheBean.setFailing(true);
+        cacheBean.staleValue("a"); // expired, fails, returns the stale result
+
+        assertThat("cache hits", m.getCacheCalls(CacheCallResult.HIT).delta(), is(0L));
+        assertThat("cache misses", m.getCacheCalls(CacheCallResult.MISS).delta(), is(1L));
+        assertThat("stale results", m.getCacheCalls(CacheCallResult.STALE).delta(), is(1L));
+
+        assertThat("successful invocations", m.getInvocations(VALUE_RETURNED, InvocationFallback.NOT_DEFINED).delta(),
+                is(2L));
+    }
+
+    @Test(dependsOnMethods = {"testCacheMetric", "testStaleMetric"})
+    public void testMetricUnits() {
+        InMemoryMetricReader reader = InMemoryMetricReader.current();
+
+        // Validate that each metric has metadata which declares the correct unit
+        for (TelemetryMetricDefinition metric : TelemetryMetricDefinition.values()) {
+            if (!metric.getName().startsWith("ft.cache")) {
+                continue;
+            }
+
+            String unit = reader.getUnit(metric.getName());
+
+            if (metric.getUnit() == null) {
+                assertTrue(unit.isEmpty(), "Unexpected metadata for metric " + metric.getName());
+            } else {
+                assertFalse(unit.isEmpty(), "Missing metadata for metric " + metric.getName());
+                assertEquals(unit, metric.getUnit(), "Incorrect unit for metric " + metric.getName());
+            }
+        }
+    }
+
+}
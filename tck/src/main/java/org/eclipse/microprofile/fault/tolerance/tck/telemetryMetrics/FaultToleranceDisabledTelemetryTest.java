@@ -134,6 +134,8 @@ public class FaultToleranceDisabledTelemetryTest extends Arquillian {
         assertThat("bulkhead executions running value", m.getBulkheadExecutionsRunning().value(), is(0L));
         assertThat("bulkhead running duration histogram present", m.getBulkheadRunningDuration().isPresent(),
                 is(false));
+        assertThat("bulkhead permits in use present", m.getBulkheadPermitsInUse().isPresent(), is(false));
+        assertThat("bulkhead permits in use value", m.getBulkheadPermitsInUse().value(), is(0L));
         assertThat("bulkhead executions waiting present", m.getBulkheadExecutionsWaiting().isPresent(),
                 is(false));
         assertThat("bulkhead executions waiting value", m.getBulkheadExecutionsWaiting().value(), is(0L));
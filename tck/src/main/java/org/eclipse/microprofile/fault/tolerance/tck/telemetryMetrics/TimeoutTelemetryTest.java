@@ -65,6 +65,8 @@ public class TimeoutTelemetryTest extends Arquillian {
                         getConfig().getTimeoutInStr(500))
                 .setValue(TimeoutMetricBean.class, "histogramTestWorkForMillis", Timeout.class,
                         getConfig().getTimeoutInStr(2000))
+                .setValue(TimeoutMetricBean.class, "adaptiveTestWorkForMillis", Timeout.class,
+                        getConfig().getTimeoutInStr(2000))
                 .mergeProperties(props);
 
         JavaArchive jar = ShrinkWrap.create(JavaArchive.class, "ftMetricTimeout.jar")
@@ -117,7 +119,24 @@ public class TimeoutTelemetryTest extends Arquillian {
         m.getTimeoutExecutionDuration().assertBoundaries();
     }
 
-    @Test(dependsOnMethods = {"testTimeoutMetric", "testTimeoutHistogram"})
+    @Test
+    public void testEffectiveTimeoutGauge() {
+        TelemetryMetricGetter m = new TelemetryMetricGetter(TimeoutMetricBean.class, "adaptiveTestWorkForMillis");
+
+        timeoutBean.adaptiveTestWorkForMillis(0);
+
+        assertThat("effective timeout present", m.getTimeoutEffectiveTimeout().isPresent(), is(true));
+        // Not enough executions have been recorded for the timeout to adapt
+        assertThat("effective timeout value", m.getTimeoutEffectiveTimeout().value(),
+                is(getConfig().getTimeoutInDuration(2000).toNanos()));
+
+        TelemetryMetricGetter notAdaptive = new TelemetryMetricGetter(TimeoutMetricBean.class,
+                "counterTestWorkForMillis");
+        assertThat("effective timeout present for a timeout which is not adaptive",
+                notAdaptive.getTimeoutEffectiveTimeout().isPresent(), is(false));
+    }
+
+    @Test(dependsOnMethods = {"testTimeoutMetric", "testTimeoutHistogram", "testEffectiveTimeoutGauge"})
     public void testMetricUnits() throws InterruptedException, ExecutionException {
         InMemoryMetricReader reader = InMemoryMetricReader.current();
 
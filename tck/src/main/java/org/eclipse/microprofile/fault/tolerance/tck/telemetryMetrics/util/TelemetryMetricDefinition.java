@@ -49,15 +49,18 @@ public enum TelemetryMetricDefinition {
     RETRY_RETRIES("ft.retry.retries.total", MetricType.COUNTER),
     TIMEOUT_CALLS("ft.timeout.calls.total", MetricType.COUNTER, TimeoutTimedOut.class),
     TIMEOUT_EXECUTION_DURATION("ft.timeout.executionDuration", MetricType.HISTOGRAM, "seconds"),
+    TIMEOUT_EFFECTIVE_TIMEOUT("ft.timeout.effectiveTimeout", MetricType.GAUGE, "nanoseconds"),
     CIRCUITBREAKER_CALLS("ft.circuitbreaker.calls.total", MetricType.COUNTER, CircuitBreakerResult.class),
     CIRCUITBREAKER_STATE("ft.circuitbreaker.state.total", MetricType.COUNTER, "nanoseconds",
             CircuitBreakerState.class),
     CIRCUITBREAKER_OPENED("ft.circuitbreaker.opened.total", MetricType.COUNTER),
     BULKHEAD_CALLS("ft.bulkhead.calls.total", MetricType.COUNTER, BulkheadResult.class),
     BULKHEAD_EXECUTIONS_RUNNING("ft.bulkhead.executionsRunning", MetricType.UPDOWNCOUNTER),
+    BULKHEAD_PERMITS_IN_USE("ft.bulkhead.permitsInUse", MetricType.UPDOWNCOUNTER),
     BULKHEAD_EXECUTIONS_WAITING("ft.bulkhead.executionsWaiting", MetricType.UPDOWNCOUNTER),
     BULKHEAD_RUNNING_DURATION("ft.bulkhead.runningDuration", MetricType.HISTOGRAM, "seconds"),
-    BULKHEAD_WAITING_DURATION("ft.bulkhead.waitingDuration", MetricType.HISTOGRAM, "seconds");
+    BULKHEAD_WAITING_DURATION("ft.bulkhead.waitingDuration", MetricType.HISTOGRAM, "seconds"),
+    CACHE_CALLS("ft.cache.calls.total", MetricType.COUNTER, CacheCallResult.class);
 
     public enum MetricType {
         COUNTER,
@@ -143,6 +146,21 @@ public enum TelemetryMetricDefinition {
         }
     }
 
+    public enum CacheCallResult implements AttributeValue {
+        HIT("hit"), MISS("miss"), STALE("stale");
+
+        private Attributes attributes;
+
+        private CacheCallResult(String attributeValue) {
+            AttributeKey<String> key = AttributeKey.stringKey("cacheResult");
+            attributes = Attributes.builder().put(key, attributeValue).build();
+        }
+
+        public Attributes getAttribute() {
+            return attributes;
+        }
+    }
+
     public enum CircuitBreakerResult implements AttributeValue {
         SUCCESS("success"), FAILURE("failure"), CIRCUIT_BREAKER_OPEN("circuitBreakerOpen");
 
@@ -32,6 +32,7 @@ import java.util.Map;
 
 import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.AttributeValue;
 import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.BulkheadResult;
+import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.CacheCallResult;
 import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.CircuitBreakerResult;
 import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.CircuitBreakerState;
 import org.eclipse.microprofile.fault.tolerance.tck.telemetryMetrics.util.TelemetryMetricDefinition.InvocationFallback;
@@ -53,14 +54,35 @@ import io.opentelemetry.api.common.AttributesBuilder;
  */
 public class TelemetryMetricGetter {
 
-    private final String classMethodName;
+    private final String ownerAttribute;
+    private final String ownerName;
 
     private Map<TelemetryMetricID, TelemetryLongMetric> longMetrics = new HashMap<>();
     private Map<TelemetryMetricID, TelemetryHistogramMetric> histogramMetrics = new HashMap<>();
 
     public TelemetryMetricGetter(Class<?> clazz, String methodName) {
         validateClassAndMethodName(clazz, methodName);
-        classMethodName = clazz.getCanonicalName() + "." + methodName;
+        ownerAttribute = "method";
+        ownerName = clazz.getCanonicalName() + "." + methodName;
+    }
+
+    private TelemetryMetricGetter(String ownerAttribute, String ownerName) {
+        this.ownerAttribute = ownerAttribute;
+        this.ownerName = ownerName;
+    }
+
+    /**
+     * Create a TelemetryMetricGetter for the metrics of a named bulkhead, which have the name of the bulkhead as an
+     * attribute instead of the method name
+     * <p>
+     * Only the {@code ft.bulkhead.*} metrics are available from the returned TelemetryMetricGetter.
+     *
+     * @param bulkheadName
+     *            the name of the bulkhead
+     * @return the TelemetryMetricGetter
+     */
+    public static TelemetryMetricGetter forBulkhead(String bulkheadName) {
+        return new TelemetryMetricGetter("bulkhead", bulkheadName);
     }
 
     public TelemetryLongMetric getInvocations(InvocationResult result, InvocationFallback fallbackUsed) {
@@ -83,6 +105,10 @@ public class TelemetryMetricGetter {
         return getHistogramMetric(getMetricId(TelemetryMetricDefinition.TIMEOUT_EXECUTION_DURATION));
     }
 
+    public TelemetryLongMetric getTimeoutEffectiveTimeout() {
+        return getLongMetric(getMetricId(TelemetryMetricDefinition.TIMEOUT_EFFECTIVE_TIMEOUT));
+    }
+
     public TelemetryLongMetric getCircuitBreakerCalls(CircuitBreakerResult cbResult) {
         return getLongMetric(getMetricId(TelemetryMetricDefinition.CIRCUITBREAKER_CALLS, cbResult));
     }
@@ -103,6 +129,10 @@ public class TelemetryMetricGetter {
         return getLongMetric(getMetricId(TelemetryMetricDefinition.BULKHEAD_EXECUTIONS_RUNNING));
     }
 
+    public TelemetryLongMetric getBulkheadPermitsInUse() {
+        return getLongMetric(getMetricId(TelemetryMetricDefinition.BULKHEAD_PERMITS_IN_USE));
+    }
+
     public TelemetryLongMetric getBulkheadExecutionsWaiting() {
         return getLongMetric(getMetricId(TelemetryMetricDefinition.BULKHEAD_EXECUTIONS_WAITING));
     }
@@ -115,6 +145,10 @@ public class TelemetryMetricGetter {
         return getHistogramMetric(getMetricId(TelemetryMetricDefinition.BULKHEAD_WAITING_DURATION));
     }
 
+    public TelemetryLongMetric getCacheCalls(CacheCallResult cacheResult) {
+        return getLongMetric(getMetricId(TelemetryMetricDefinition.CACHE_CALLS, cacheResult));
+    }
+
     /**
      * Calls {@code baseline()} on all relevant metrics.
      * <p>
@@ -231,7 +265,7 @@ public class TelemetryMetricGetter {
             builder.putAll(metricAttributes[i].getAttribute());
         }
 
-        builder.put("method", classMethodName);
+        builder.put(ownerAttribute, ownerName);
 
         return new TelemetryMetricID(metricDefinition.getName(), metricDefinition.getMetricType(), builder.build());
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout;
+
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.AdaptiveTimeoutBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test timeouts computed from a percentile of the observed execution times
+ */
+public class AdaptiveTimeoutTest extends Arquillian {
+
+    @Inject
+    private AdaptiveTimeoutBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(AdaptiveTimeoutBean.class, "adaptive")
+                .autoscaleMethod(AdaptiveTimeoutBean.class, "notEnoughExecutions");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftAdaptiveTimeout.jar")
+                .addClass(AdaptiveTimeoutBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftAdaptiveTimeout.war")
+                .addAsLibrary(testJar);
+    }
+
+    /**
+     * Once many fast executions have been recorded, the effective timeout drops to the minimum value of 500ms, well
+     * below the maximum value of 5000ms
+     */
+    @Test
+    public void testTimeoutAdapts() {
+        for (int i = 0; i < 200; i++) {
+            bean.adaptive(0);
+        }
+
+        long start = System.nanoTime();
+        expectThrows(TimeoutException.class, () -> bean.adaptive(getConfig().getTimeoutInMillis(10_000)));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed, lessThan(getConfig().getTimeoutInDuration(2500)));
+    }
+
+    /**
+     * While fewer than 100 executions have been recorded, the maximum value of 2000ms is used
+     */
+    @Test
+    public void testNotEnoughExecutions() {
+        for (int i = 0; i < 50; i++) {
+            bean.notEnoughExecutions(0);
+        }
+
+        // Would time out if the timeout had already adapted to the minimum value of 100ms
+        bean.notEnoughExecutions(getConfig().getTimeoutInMillis(500));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.CooperativeTimeoutBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.CancellationToken;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test {@code Timeout.interrupt() = false} together with the {@link CancellationToken}
+ */
+public class CooperativeTimeoutTest extends Arquillian {
+
+    @Inject
+    private CooperativeTimeoutBean bean;
+
+    @Inject
+    private CancellationToken cancellation;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(CooperativeTimeoutBean.class, "pollToken")
+                .autoscaleMethod(CooperativeTimeoutBean.class, "blockOnConnection");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftCooperativeTimeout.jar")
+                .addClass(CooperativeTimeoutBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftCooperativeTimeout.war")
+                .addAsLibrary(testJar);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        bean.reset();
+    }
+
+    @Test
+    public void testPollToken() {
+        long start = System.nanoTime();
+        expectThrows(TimeoutException.class, () -> bean.pollToken());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat("thread interrupted", bean.wasInterrupted(), is(false));
+        assertThat("stopped by the token", bean.wasStoppedByToken(), is(true));
+        assertThat(elapsed, lessThan(TCKConfig.getConfig().getTimeoutInDuration(2000)));
+    }
+
+    @Test
+    public void testCancellationCallback() {
+        long start = System.nanoTime();
+        expectThrows(TimeoutException.class, () -> bean.blockOnConnection());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat("thread interrupted", bean.wasInterrupted(), is(false));
+        assertThat("callback run", bean.wasCallbackRun(), is(true));
+        assertThat(elapsed, lessThan(TCKConfig.getConfig().getTimeoutInDuration(2000)));
+    }
+
+    @Test
+    public void testOutsideInvocation() {
+        expectThrows(IllegalStateException.class, () -> cancellation.isCancelled());
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.testng.Assert.expectThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.CountingTimer;
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.CustomTimerBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that a {@code FaultToleranceTimer} bean provided by the application is used for timeouts and retry delays
+ */
+public class CustomTimerTest extends Arquillian {
+
+    @Inject
+    private CustomTimerBean bean;
+
+    @Inject
+    private CountingTimer timer;
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftCustomTimer.jar")
+                .addClasses(CustomTimerBean.class, CountingTimer.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftCustomTimer.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testTimeoutUsesTimer() {
+        int firedBefore = timer.getFired();
+        expectThrows(TimeoutException.class, () -> bean.timesOut());
+        assertThat("timer tasks fired", timer.getFired(), greaterThan(firedBefore));
+    }
+
+    @Test
+    public void testRetryDelayUsesTimer() throws Exception {
+        int scheduledBefore = timer.getScheduled();
+        assertThat(bean.retried().toCompletableFuture().get(1, TimeUnit.MINUTES), is(2));
+        assertThat("timer tasks scheduled", timer.getScheduled(), greaterThan(scheduledBefore));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig.getConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.SoftTimeoutBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test {@code Timeout.soft() = true} together with {@code ExecutionContext.getStaleResult(Class)}
+ */
+public class SoftTimeoutTest extends Arquillian {
+
+    @Inject
+    private SoftTimeoutBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(SoftTimeoutBean.class, "fetch");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftSoftTimeout.jar")
+                .addClass(SoftTimeoutBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftSoftTimeout.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testSoftTimeout() throws Exception {
+        // A fast execution stores its result
+        bean.setDelay(0);
+        assertThat(fetch("a"), is("a-1"));
+
+        // A slow execution times out, the fallback returns the stored result
+        bean.setDelay(getConfig().getTimeoutInMillis(1500));
+        assertThat(fetch("a"), is("stale:a-1"));
+
+        // The slow execution completes in the background and replaces the stored result
+        await("background execution completed")
+                .atMost(getConfig().getTimeoutInDuration(5000))
+                .until(() -> bean.getCompleted() == 2);
+        assertThat("execution interrupted", bean.wasInterrupted(), is(false));
+        assertThat(fetch("a"), is("stale:a-2"));
+
+        // Results are stored separately for each parameter value
+        assertThat(fetch("b"), is("none"));
+    }
+
+    private String fetch(String key)
+            throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        return bean.fetch(key).toCompletableFuture().get(getConfig().getTimeoutInMillis(5000),
+                TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.fault.tolerance.tck.config.ConfigAnnotationAsset;
+import org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver.TimeoutStressBean;
+import org.eclipse.microprofile.fault.tolerance.tck.util.Packages;
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test that a very large number of concurrent timeouts all fire, none of them early and none of them much later than
+ * configured
+ */
+public class TimeoutStressTest extends Arquillian {
+
+    private static final int INVOCATIONS = 100_000;
+
+    // The timeout of TimeoutStressBean.neverCompletes
+    private static final Duration TIMEOUT = TCKConfig.getConfig().getTimeoutInDuration(2000);
+
+    private static final Duration TOLERANCE = TCKConfig.getConfig().getTimeoutInDuration(1000);
+
+    @Inject
+    private TimeoutStressBean bean;
+
+    @Deployment
+    public static WebArchive deploy() {
+        ConfigAnnotationAsset config = new ConfigAnnotationAsset()
+                .autoscaleMethod(TimeoutStressBean.class, "neverCompletes");
+
+        JavaArchive testJar = ShrinkWrap.create(JavaArchive.class, "ftTimeoutStress.jar")
+                .addClass(TimeoutStressBean.class)
+                .addPackage(Packages.UTILS)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(config, "microprofile-config.properties")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap.create(WebArchive.class, "ftTimeoutStress.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testManyConcurrentTimeouts() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(INVOCATIONS);
+        AtomicInteger timedOut = new AtomicInteger();
+        AtomicLong earliestNanos = new AtomicLong(Long.MAX_VALUE);
+        AtomicLong latestNanos = new AtomicLong();
+        AtomicReference<Throwable> unexpected = new AtomicReference<>();
+
+        for (int i = 0; i < INVOCATIONS; i++) {
+            long start = System.nanoTime();
+            CompletableFuture<Void> result = bean.neverCompletes().toCompletableFuture();
+            result.whenComplete((value, error) -> {
+                long elapsed = System.nanoTime() - start;
+                earliestNanos.accumulateAndGet(elapsed, Math::min);
+                latestNanos.accumulateAndGet(elapsed, Math::max);
+                if (error instanceof TimeoutException) {
+                    timedOut.incrementAndGet();
+                } else {
+                    unexpected.compareAndSet(null, error);
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat("all invocations completed",
+                done.await(TIMEOUT.plus(TOLERANCE).toMillis() * 10, TimeUnit.MILLISECONDS), is(true));
+        assertThat("unexpected result", unexpected.get(), is((Throwable) null));
+        assertThat("invocations timed out", timedOut.get(), is(INVOCATIONS));
+
+        // The elapsed time is measured from before the call, and a timeout never fires early
+        assertThat("earliest timeout", Duration.ofNanos(earliestNanos.get()),
+                greaterThanOrEqualTo(TIMEOUT));
+        assertThat("latest timeout", Duration.ofNanos(latestNanos.get()),
+                lessThanOrEqualTo(TIMEOUT.plus(TOLERANCE)));
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Methods with an adaptive timeout
+ */
+@ApplicationScoped
+public class AdaptiveTimeoutBean {
+
+    @Timeout(value = 5000, adaptivePercentile = 99, adaptiveFactor = 2, minValue = 500)
+    public void adaptive(long millis) {
+        doWork(millis);
+    }
+
+    @Timeout(value = 2000, adaptivePercentile = 99, adaptiveFactor = 2, minValue = 100)
+    public void notEnoughExecutions(long millis) {
+        doWork(millis);
+    }
+
+    private void doWork(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Test was interrupted", e);
+        }
+    }
+
+}
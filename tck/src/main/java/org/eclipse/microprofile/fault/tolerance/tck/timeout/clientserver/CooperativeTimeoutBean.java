@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.fault.tolerance.tck.util.TCKConfig;
+import org.eclipse.microprofile.faulttolerance.CancellationToken;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Methods which stop their work when cancelled, without relying on interruption
+ */
+@ApplicationScoped
+public class CooperativeTimeoutBean {
+
+    @Inject
+    private CancellationToken cancellation;
+
+    private final AtomicBoolean interrupted = new AtomicBoolean();
+    private final AtomicBoolean stoppedByToken = new AtomicBoolean();
+    private final AtomicBoolean callbackRun = new AtomicBoolean();
+
+    /**
+     * Polls the cancellation token until it is cancelled, for at most 5000ms
+     */
+    @Timeout(value = 500, interrupt = false)
+    public void pollToken() {
+        long end = System.nanoTime() + TCKConfig.getConfig().getTimeoutInDuration(5000).toNanos();
+        while (System.nanoTime() < end) {
+            if (cancellation.isCancelled()) {
+                stoppedByToken.set(true);
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Blocks until a simulated connection is aborted by the cancellation callback, for at most 5000ms
+     */
+    @Timeout(value = 500, interrupt = false)
+    public void blockOnConnection() {
+        CompletableFuture<Void> connection = new CompletableFuture<>();
+        try (CancellationToken.Registration r = cancellation.onCancel(() -> {
+            callbackRun.set(true);
+            connection.completeExceptionally(new IllegalStateException("connection aborted"));
+        })) {
+            connection.get(TCKConfig.getConfig().getTimeoutInMillis(5000), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            interrupted.set(true);
+        } catch (ExecutionException | java.util.concurrent.TimeoutException e) {
+            // expected when the connection is aborted, or if the callback is never run
+        }
+    }
+
+    public boolean wasInterrupted() {
+        return interrupted.get();
+    }
+
+    public boolean wasStoppedByToken() {
+        return stoppedByToken.get();
+    }
+
+    public boolean wasCallbackRun() {
+        return callbackRun.get();
+    }
+
+    public void reset() {
+        interrupted.set(false);
+        stoppedByToken.set(false);
+        callbackRun.set(false);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.faulttolerance.FaultToleranceTimer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A {@link FaultToleranceTimer} provided by the application, which counts the tasks scheduled on it
+ */
+@ApplicationScoped
+public class CountingTimer implements FaultToleranceTimer {
+
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicInteger fired = new AtomicInteger();
+
+    @Override
+    public Task schedule(Duration delay, Runnable task) {
+        scheduled.incrementAndGet();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture.runAsync(() -> {
+            if (cancelled.compareAndSet(false, true)) {
+                fired.incrementAndGet();
+                task.run();
+            }
+        }, CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS));
+        return () -> cancelled.compareAndSet(false, true);
+    }
+
+    public int getScheduled() {
+        return scheduled.get();
+    }
+
+    public int getFired() {
+        return fired.get();
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.tck.timeout.clientserver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * A method with a soft timeout, whose fallback returns the stale result
+ */
+@ApplicationScoped
+public class SoftTimeoutBean {
+
+    @Inject
+    private ExecutionContext context;
+
+    private final AtomicLong delay = new AtomicLong(0);
+    private final AtomicInteger executions = new AtomicInteger(0);
+    private final AtomicInteger completed = new AtomicInteger(0);
+    private final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+    /**
+     * Returns {@code key-N}, where N is the number of the execution, after waiting for the current delay
+     */
+    @Asynchronous
+    @Timeout(value = 500, soft = true)
+    @Fallback(fallbackMethod = "staleValue")
+    public CompletionStage<String> fetch(String key) {
+        int execution = executions.incrementAndGet();
+        try {
+            Thread.sleep(delay.get());
+        } catch (InterruptedException e) {
+            interrupted.set(true);
+            throw new RuntimeException("Test was interrupted", e);
+        }
+        completed.incrementAndGet();
+        return CompletableFuture.completedFuture(key + "-" + execution);
+    }
+
+    public CompletionStage<String> staleValue(String key) {
+        return CompletableFuture.completedFuture(context.getStaleResult(String.class)
+                .map(result -> "stale:" + result)
+                .orElse("none"));
+    }
+
+    public void setDelay(long millis) {
+        delay.set(millis);
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public boolean wasInterrupted() {
+        return interrupted.get();
+    }
+
+}